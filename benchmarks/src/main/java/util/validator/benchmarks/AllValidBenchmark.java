@@ -0,0 +1,53 @@
+package util.validator.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import util.validator.Validator;
+import util.validator.ValidityMask;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AbstractValidator.allValid over collections of valid rows, sequential and on the common pool,
+ * and validateAll over the same rows
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class AllValidBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private Validator<Row> validator;
+    private List<Row> rows;
+
+    @Setup
+    public void setup(){
+        validator = SimpleValidatorBenchmark.chain(5);
+        rows = new ArrayList<>(size);
+        for(int i = 0; i < size; i++){
+            rows.add(Row.valid(5));
+        }
+    }
+
+    @Benchmark
+    public boolean allValid(){
+        return validator.allValid(rows);
+    }
+
+    @Benchmark
+    public boolean allValidParallel(){
+        return validator.allValid(rows,ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public ValidityMask validateAll(){
+        return validator.validateAll(rows);
+    }
+}
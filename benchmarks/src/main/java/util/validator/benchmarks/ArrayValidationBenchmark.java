@@ -0,0 +1,61 @@
+package util.validator.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import util.validator.Validator;
+import util.validator.ValidityMask;
+import util.validator.builder.numbervalidatorbuilder.IntValidatorBuilder;
+import util.validator.builder.numbervalidatorbuilder.implementations.IntValidatorBuilderImpl;
+import util.validator.column.IntColumnValidator;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares validating an int array with a ColumnValidator against validating the boxed values
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ArrayValidationBenchmark {
+
+    @Param({"65536"})
+    private int size;
+
+    private int[] values;
+    private Integer[] boxed;
+    private IntColumnValidator columnValidator;
+    private Validator<Integer> validator;
+
+    @Setup
+    public void setup(){
+        Random random = new Random(42);
+        values = new int[size];
+        boxed = new Integer[size];
+        for(int i = 0; i < size; i++){
+            values[i] = random.nextInt(1000);
+            boxed[i] = values[i];
+        }
+        IntValidatorBuilder<Integer> builder = IntValidatorBuilder.forColumn();
+        builder.inRange(0,1000);
+        columnValidator = builder.buildColumn();
+        validator = new IntValidatorBuilderImpl<Integer>(Integer::intValue).inRange(0,1000).build();
+    }
+
+    @Benchmark
+    public ValidityMask boxed(){
+        return validator.validateAll(boxed);
+    }
+
+    @Benchmark
+    public ValidityMask validateArray(){
+        return columnValidator.validateArray(values);
+    }
+
+    @Benchmark
+    public int firstInvalid(){
+        return columnValidator.firstInvalid(values);
+    }
+}
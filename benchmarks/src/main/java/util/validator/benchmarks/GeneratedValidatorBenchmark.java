@@ -0,0 +1,73 @@
+package util.validator.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import util.validator.Validator;
+import util.validator.builder.ValidatorBuilder;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the validators generated as hidden classes with the interpreted ones built from the same chain
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class GeneratedValidatorBenchmark {
+
+    @Param({"5", "20"})
+    private int keys;
+
+    private Validator<Row> interpreted;
+    private Validator<Row> generated;
+    private Validator<Row> interpretedNumbers;
+    private Validator<Row> generatedNumbers;
+    private Row valid;
+
+    @Setup
+    public void setup(){
+        ValidatorBuilder<Row,?> builder = ValidatorBuilder.getInstance(Row::name)
+                .validating(Objects::nonNull);
+        for(int i = 0; i < keys; i++){
+            int index = i;
+            builder = builder.key(row -> row.values()[index])
+                    .validating(value -> value >= 0);
+        }
+        interpreted = builder.build();
+        generated = builder.buildGenerated();
+
+        var numbers = ValidatorBuilder.getInstance(Row::name)
+                .intKey(Row::count)
+                .inRange(500,50_000)
+                .longKey(Row::id)
+                .positive()
+                .doubleKey(Row::price)
+                .inRangeInclusive(0.0,1000.0);
+        interpretedNumbers = numbers.build();
+        generatedNumbers = numbers.buildGenerated();
+        valid = Row.valid(keys);
+    }
+
+    @Benchmark
+    public boolean interpreted(){
+        return interpreted.validate(valid);
+    }
+
+    @Benchmark
+    public boolean generated(){
+        return generated.validate(valid);
+    }
+
+    @Benchmark
+    public boolean interpretedNumbers(){
+        return interpretedNumbers.validate(valid);
+    }
+
+    @Benchmark
+    public boolean generatedNumbers(){
+        return generatedNumbers.validate(valid);
+    }
+}
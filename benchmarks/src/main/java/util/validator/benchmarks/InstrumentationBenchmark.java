@@ -0,0 +1,52 @@
+package util.validator.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import util.validator.Validator;
+import util.validator.builder.ValidatorBuilder;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares instrumented validators with the ones built from the same chain without instrumentation.
+ * Run it with -t to see the counters under contention
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class InstrumentationBenchmark {
+
+    @Param({"5", "20"})
+    private int keys;
+
+    private Validator<Row> plain;
+    private Validator<Row> instrumented;
+    private Row valid;
+
+    @Setup
+    public void setup(){
+        ValidatorBuilder<Row,?> builder = ValidatorBuilder.getInstance(Row::name)
+                .validating(Objects::nonNull);
+        for(int i = 0; i < keys; i++){
+            int index = i;
+            builder = builder.key(row -> row.values()[index])
+                    .validating(value -> value >= 0);
+        }
+        plain = builder.build();
+        instrumented = builder.buildInstrumented();
+        valid = Row.valid(keys);
+    }
+
+    @Benchmark
+    public boolean plain(){
+        return plain.validate(valid);
+    }
+
+    @Benchmark
+    public boolean instrumented(){
+        return instrumented.validate(valid);
+    }
+}
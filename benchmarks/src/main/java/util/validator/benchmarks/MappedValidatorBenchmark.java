@@ -0,0 +1,56 @@
+package util.validator.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import util.validator.mappedValidator.MappedValidator;
+import util.validator.mappedValidator.mappedValidatorBuilder.MappedValidatorBuilder;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validators built by the SimpleMappedValidtatorBuilder, including reading the invalid keys of the result
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MappedValidatorBenchmark {
+
+    @Param({"5", "40"})
+    private int keys;
+
+    private MappedValidator<Row,String> validator;
+    private Row valid;
+    private Row invalid;
+
+    @Setup
+    public void setup(){
+        validator = chain(keys);
+        valid = Row.valid(keys);
+        invalid = Row.invalidLastKey(keys);
+    }
+
+    static MappedValidator<Row,String> chain(int keys){
+        var builder = MappedValidatorBuilder.<Row,String,String>getInstance(Row::name)
+                .validating("name",Objects::nonNull)
+                .key(row -> row.values());
+        for(int i = 0; i < keys; i++){
+            int index = i;
+            builder = builder.validating("value" + i,values -> values[index] >= 0);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public boolean validate(){
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<String> validateMappedInvalidKeys(){
+        return validator.validateMapped(invalid).invalidKeys();
+    }
+}
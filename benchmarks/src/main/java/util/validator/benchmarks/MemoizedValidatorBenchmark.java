@@ -0,0 +1,59 @@
+package util.validator.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import util.validator.Validator;
+import util.validator.implementations.MemoizedValidator;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a chain with its memoized version on a hit-heavy workload of recurring rows
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MemoizedValidatorBenchmark {
+
+    @Param({"5", "20"})
+    private int keys;
+
+    private Validator<Row> validator;
+    private Validator<Row> equalityMemoized;
+    private Validator<Row> identityMemoized;
+    private Row[] rows;
+
+    @Setup
+    public void setup(){
+        validator = SimpleValidatorBenchmark.chain(keys);
+        equalityMemoized = validator.memoized(1024,Duration.ofMinutes(10));
+        identityMemoized = validator.memoized(1024,Duration.ofMinutes(10),MemoizedValidator.Keys.IDENTITY);
+        rows = new Row[256];
+        for(int i = 0; i < rows.length; i++){
+            rows[i] = Row.valid(keys);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public boolean chain(Cursor cursor){
+        return validator.validate(rows[cursor.next++ & 255]);
+    }
+
+    @Benchmark
+    public boolean equalityMemoized(Cursor cursor){
+        return equalityMemoized.validate(rows[cursor.next++ & 255]);
+    }
+
+    @Benchmark
+    public boolean identityMemoized(Cursor cursor){
+        return identityMemoized.validate(rows[cursor.next++ & 255]);
+    }
+}
@@ -0,0 +1,82 @@
+package util.validator.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import util.validator.Validator;
+import util.validator.builder.ValidatorBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Int, Long and Double validator builders with several bound checks per key.
+ * The keys are outside the Integer cache, so any boxing shows up in gc.alloc.rate.norm
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class NumberValidatorBenchmark {
+
+    private Validator<Row> intValidator;
+    private Validator<Row> longValidator;
+    private Validator<Row> doubleValidator;
+    private Validator<Row> mixedValidator;
+    private Row valid;
+    private Row invalid;
+
+    @Setup
+    public void setup(){
+        intValidator = ValidatorBuilder.getInstance(Row::name)
+                .intKey(Row::count)
+                .positive()
+                .lesserThan(100_000)
+                .inRangeInclusive(500,50_000)
+                .build();
+        longValidator = ValidatorBuilder.getInstance(Row::name)
+                .longKey(Row::id)
+                .greaterOrEqualThan(1000L)
+                .inRange(0L,10_000_000L)
+                .build();
+        doubleValidator = ValidatorBuilder.getInstance(Row::name)
+                .doubleKey(Row::price)
+                .positive()
+                .inRangeExclusive(0.0,1000.0)
+                .build();
+        mixedValidator = ValidatorBuilder.getInstance(Row::name)
+                .intKey(Row::count)
+                .inRange(500,50_000)
+                .longKey(Row::id)
+                .positive()
+                .doubleKey(Row::price)
+                .lesserOrEqualThan(1000.0)
+                .build();
+        valid = Row.valid(1);
+        invalid = new Row("row",-1000,-1L,-1.0,new int[1]);
+    }
+
+    @Benchmark
+    public boolean intKey(){
+        return intValidator.validate(valid);
+    }
+
+    @Benchmark
+    public boolean longKey(){
+        return longValidator.validate(valid);
+    }
+
+    @Benchmark
+    public boolean doubleKey(){
+        return doubleValidator.validate(valid);
+    }
+
+    @Benchmark
+    public boolean mixedKeys(){
+        return mixedValidator.validate(valid);
+    }
+
+    @Benchmark
+    public boolean mixedKeysInvalid(){
+        return mixedValidator.validate(invalid);
+    }
+}
@@ -0,0 +1,21 @@
+package util.validator.benchmarks;
+
+/**
+ * The object validated in the benchmarks
+ */
+public record Row(String name, int count, long id, double price, int[] values) {
+
+    public static Row valid(int keys){
+        int[] values = new int[keys];
+        for(int i = 0; i < keys; i++){
+            values[i] = 1000 + i;
+        }
+        return new Row("row",1000,1_000_000L,12.5,values);
+    }
+
+    public static Row invalidLastKey(int keys){
+        Row row = valid(keys);
+        row.values()[keys - 1] = -1;
+        return row;
+    }
+}
@@ -0,0 +1,71 @@
+package util.validator.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import util.validator.Validator;
+import util.validator.builder.ValidatorBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SimpleValidatorBuilder chains with a growing number of keys
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SimpleValidatorBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int keys;
+
+    private Validator<Row> validator;
+    private Validator<Row> adaptiveValidator;
+    private Row valid;
+    private Row invalid;
+
+    @Setup
+    public void setup(){
+        validator = chain(keys);
+        adaptiveValidator = chain(keys,true);
+        valid = Row.valid(keys);
+        invalid = Row.invalidLastKey(keys);
+    }
+
+    static Validator<Row> chain(int keys){
+        return chain(keys,false);
+    }
+
+    static Validator<Row> chain(int keys, boolean adaptive){
+        // exactly one key per value, so the param is the number of keys in the chain
+        ValidatorBuilder<Row,Integer> builder = ValidatorBuilder.<Row,Integer>getInstance(row -> row.values()[0])
+                .validating(value -> value >= 0);
+        for(int i = 1; i < keys; i++){
+            int index = i;
+            builder = builder.key(row -> row.values()[index])
+                    .validating(value -> value >= 0);
+        }
+        return adaptive ? builder.buildAdaptive() : builder.build();
+    }
+
+    @Benchmark
+    public boolean validate(){
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public boolean validateInvalid(){
+        return validator.validate(invalid);
+    }
+
+    @Benchmark
+    public boolean validateInvalidAdaptive(){
+        return adaptiveValidator.validate(invalid);
+    }
+
+    @Benchmark
+    public Validator<Row> build(){
+        return chain(keys);
+    }
+}
@@ -0,0 +1,14 @@
+package util.validator;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncValidator<T> extends Validator<T> {
+
+    /**
+     * returns if the object matches all the conditions.
+     * The conditions which block are evaluated concurrently, the future completes with false as soon as one fails
+     * @param toValidate the object to validate
+     * @return a future of whether the object is valid
+     */
+    CompletableFuture<Boolean> validateAsync(T toValidate);
+}
@@ -0,0 +1,80 @@
+package util.validator;
+
+/**
+ * Thrown by validOrThrow() if the value is invalid.
+ * It has no stack trace and the message is only built when it is read,
+ * so rejecting a value costs one small allocation and neither walks the stack nor calls toString() on the value.
+ * <p>
+ * For callers which only branch on the exception, {@link #shared()} is a preallocated instance without the value:
+ * <pre>{@code validator.validOrThrow(value, ValidationException::shared)}</pre>
+ */
+public class ValidationException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+    private static final ValidationException SHARED = new ValidationException();
+
+    private final transient Object invalidValue;
+
+    public ValidationException(Object invalidValue){
+        this.invalidValue = invalidValue;
+    }
+
+    private ValidationException(){
+        super(null,null);
+        this.invalidValue = null;
+    }
+
+    /**
+     * Returns the preallocated instance, which is shared between all threads and has no value.
+     * Its stack trace and cause can't be written.
+     * Throwable.addSuppressed() is final, so don't throw it from try-with-resources blocks which may add suppressed exceptions
+     * @return the shared instance
+     */
+    public static ValidationException shared(){
+        return SHARED;
+    }
+
+    /**
+     * @return the invalid value, null for the shared instance
+     */
+    public Object getInvalidValue(){
+        return invalidValue;
+    }
+
+    @Override
+    public String getMessage() {
+        if(this == SHARED)
+            return "the value is invalid";
+        return invalidValue + " is invalid";
+    }
+
+    /**
+     * doesn't fill in the stack trace, rejecting invalid values is an expected path and not a bug
+     * @return this exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+    /**
+     * ignored for the shared instance
+     * @param stackTrace the stack trace
+     */
+    @Override
+    public void setStackTrace(StackTraceElement[] stackTrace) {
+        if(this != SHARED)
+            super.setStackTrace(stackTrace);
+    }
+
+    /**
+     * @param cause the cause
+     * @return this exception
+     * @throws IllegalStateException for the shared instance
+     */
+    @Override
+    public synchronized Throwable initCause(Throwable cause) {
+        if(this == SHARED)
+            throw new IllegalStateException("the shared instance can't have a cause");
+        return super.initCause(cause);
+    }
+}
@@ -0,0 +1,81 @@
+package util.validator;
+
+/**
+ * Result of validating one object with validateWithResult().
+ * Every valid object gets the same shared instance, only an invalid object gets a new one,
+ * which describes the first condition the object didn't match
+ */
+public final class ValidationResult {
+    /** the index of a key condition, if the key was outside of its bounds */
+    public static final int BOUNDS = -1;
+    /** the index of a condition, if the validator doesn't know which condition failed */
+    public static final int UNKNOWN = -2;
+
+    private static final ValidationResult VALID = new ValidationResult(UNKNOWN,UNKNOWN,null);
+
+    private final int keyIndex;
+    private final int conditionIndex;
+    private final Object value;
+
+    private ValidationResult(int keyIndex, int conditionIndex, Object value){
+        this.keyIndex = keyIndex;
+        this.conditionIndex = conditionIndex;
+        this.value = value;
+    }
+
+    /**
+     * @return the shared result of all valid objects
+     */
+    public static ValidationResult valid(){
+        return VALID;
+    }
+
+    /**
+     * @param keyIndex the index of the key which failed
+     * @param conditionIndex the index of the condition of the key which failed, BOUNDS or UNKNOWN
+     * @param value the extracted key
+     * @return the result of an invalid object
+     */
+    public static ValidationResult invalid(int keyIndex, int conditionIndex, Object value){
+        return new ValidationResult(keyIndex,conditionIndex,value);
+    }
+
+    /**
+     * @return if the object matched all the conditions
+     */
+    public boolean isValid(){
+        return this == VALID;
+    }
+
+    /**
+     * Returns the index of the key which failed, in the order the keys were added to the builder.
+     * Only keys with conditions are counted and every condition added with validatingAsync() counts as a key of its own
+     * @return the index or UNKNOWN
+     */
+    public int keyIndex(){
+        return keyIndex;
+    }
+
+    /**
+     * Returns the index of the condition of the key which failed, in the order the conditions were added to the key.
+     * Bounds like inRange() or greaterThan() are all folded into one interval and are reported as BOUNDS
+     * @return the index, BOUNDS or UNKNOWN
+     */
+    public int conditionIndex(){
+        return conditionIndex;
+    }
+
+    /**
+     * @return the extracted key which failed, null if valid or unknown
+     */
+    public Object value(){
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        if(isValid())
+            return "ValidationResult[valid]";
+        return "ValidationResult[keyIndex=" + keyIndex + ", conditionIndex=" + conditionIndex + ", value=" + value + "]";
+    }
+}
@@ -1,7 +1,12 @@
 package util.validator;
 
+import util.validator.implementations.MemoizedValidator;
+
+import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
 public interface Validator<T> extends BasicValidator<T>{
@@ -13,6 +18,36 @@ public interface Validator<T> extends BasicValidator<T>{
      */
     boolean allValid(Collection<T> toValidate);
 
+    /**
+     * returns if all the objects match all the conditions, validating them in parallel on the pool
+     * @param toValidate the objects to validate
+     * @param pool the pool to validate the objects on
+     * @return if the objects are valid
+     */
+    boolean allValid(Collection<T> toValidate, ForkJoinPool pool);
+
+    /**
+     * validates every object of the list
+     * @param toValidate the objects to validate
+     * @return a mask with one bit per object, set if the object is valid
+     */
+    ValidityMask validateAll(List<T> toValidate);
+
+    /**
+     * validates every object of the array
+     * @param toValidate the objects to validate
+     * @return a mask with one bit per object, set if the object is valid
+     */
+    ValidityMask validateAll(T[] toValidate);
+
+    /**
+     * validates the object and returns which condition failed.
+     * A valid object always gets the shared ValidationResult.valid(), so nothing is allocated then
+     * @param toValidate the object to validate
+     * @return ValidationResult.valid() or the first condition the object didn't match
+     */
+    ValidationResult validateWithResult(T toValidate);
+
     /**
      * Returns an Optional of the object if its valid, otherwise an empty one
      * @param toValidate the object to validate
@@ -47,4 +82,23 @@ public interface Validator<T> extends BasicValidator<T>{
      */
     <X extends Throwable> T validOrThrow(T t, Supplier<? extends X> throwableSupplier) throws X;
 
+    /**
+     * Returns a Validator which caches the results of this one, compared by equals() and hashCode().
+     * Only use it for immutable objects
+     * @param maxEntries the maximum number of cached results
+     * @param expireAfter how long a result stays cached
+     * @return the memoizing Validator
+     */
+    MemoizedValidator<T> memoized(int maxEntries, Duration expireAfter);
+
+    /**
+     * Returns a Validator which caches the results of this one.
+     * Only use it for immutable objects
+     * @param maxEntries the maximum number of cached results
+     * @param expireAfter how long a result stays cached
+     * @param keys if the objects are compared by equality or identity
+     * @return the memoizing Validator
+     */
+    MemoizedValidator<T> memoized(int maxEntries, Duration expireAfter, MemoizedValidator.Keys keys);
+
 }
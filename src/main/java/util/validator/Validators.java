@@ -0,0 +1,347 @@
+package util.validator;
+
+import util.validator.annotations.DecimalRange;
+import util.validator.annotations.InRange;
+import util.validator.annotations.Negative;
+import util.validator.annotations.NotNull;
+import util.validator.annotations.Positive;
+import util.validator.builder.AbstractPredicateHolder;
+import util.validator.builder.DoublePredicateHolder;
+import util.validator.builder.IntPredicateHolder;
+import util.validator.builder.LongPredicateHolder;
+import util.validator.builder.PredicateHolder;
+import util.validator.implementations.CompiledValidator;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.*;
+
+/**
+ * Factory for Validators which are created from the constraint annotations of util.validator.annotations
+ */
+public final class Validators {
+    private static final Set<Class<?>> INT_TYPES = Set.of(int.class,short.class,byte.class);
+    private static final Set<Class<?>> DOUBLE_TYPES = Set.of(double.class,float.class);
+    private static final Set<Class<?>> BOXED_INTEGERS = Set.of(Integer.class,Short.class,Byte.class,Long.class);
+    private static final Set<Class<?>> BOXED_DECIMALS = Set.of(Double.class,Float.class);
+
+    private static final ClassValue<Validator<?>> RECORD_VALIDATORS = new ClassValue<>() {
+        @Override
+        protected Validator<?> computeValue(Class<?> type) {
+            return createRecordValidator(type);
+        }
+    };
+
+    private Validators(){
+    }
+
+    /**
+     * Returns a Validator for the constraint annotations on the components of the record.
+     * The components are read once per record class, the accessors are bound as MethodHandles
+     * and the Validator is cached, so every call with the same class returns the same Validator
+     * @param recordClass the class of the record
+     * @param <R> the type of the record
+     * @return the Validator
+     * @throws IllegalArgumentException if the class isn't a record, its accessors aren't accessible
+     * or an annotation is used on a component it doesn't apply to
+     */
+    @SuppressWarnings("unchecked")
+    public static <R extends Record> Validator<R> forRecord(Class<R> recordClass){
+        return (Validator<R>) RECORD_VALIDATORS.get(recordClass);
+    }
+
+    private static <R> Validator<R> createRecordValidator(Class<R> recordClass){
+        if(!recordClass.isRecord())
+            throw new IllegalArgumentException(recordClass.getName() + " is not a record");
+        MethodHandles.Lookup lookup;
+        try{
+            lookup = MethodHandles.privateLookupIn(recordClass,MethodHandles.lookup());
+        }
+        catch (IllegalAccessException e){
+            throw new IllegalArgumentException("the components of " + recordClass.getName() + " are not accessible",e);
+        }
+
+        AbstractPredicateHolder<R> holder = null;
+        for(RecordComponent component : recordClass.getRecordComponents()){
+            if(!hasConstraints(component))
+                continue;
+            MethodHandle accessor;
+            try{
+                accessor = lookup.unreflect(component.getAccessor());
+            }
+            catch (IllegalAccessException e){
+                throw new IllegalArgumentException("the component " + component.getName() + " is not accessible",e);
+            }
+            holder = addComponent(holder,component,lookup,accessor);
+        }
+        if(holder == null)
+            return new CompiledValidator<>(newPredicateArray());
+        return new CompiledValidator<>(holder.compile());
+    }
+
+    private static boolean hasConstraints(RecordComponent component){
+        return component.isAnnotationPresent(NotNull.class) || component.isAnnotationPresent(Positive.class)
+                || component.isAnnotationPresent(Negative.class) || component.isAnnotationPresent(InRange.class)
+                || component.isAnnotationPresent(DecimalRange.class);
+    }
+
+    private static <R> AbstractPredicateHolder<R> addComponent(AbstractPredicateHolder<R> previous, RecordComponent component,
+                                                               MethodHandles.Lookup lookup, MethodHandle accessor){
+        Class<?> type = component.getType();
+        boolean notNull = component.isAnnotationPresent(NotNull.class);
+        if(notNull && type.isPrimitive())
+            throw new IllegalArgumentException("@NotNull can't be used on the primitive component " + component.getName());
+        if(!type.isPrimitive() && !BOXED_INTEGERS.contains(type) && !BOXED_DECIMALS.contains(type)
+                && (component.isAnnotationPresent(Positive.class) || component.isAnnotationPresent(Negative.class)
+                || component.isAnnotationPresent(InRange.class) || component.isAnnotationPresent(DecimalRange.class)))
+            throw new IllegalArgumentException("number constraints can't be used on the component " + component.getName() + " of type " + type.getName());
+        if(component.isAnnotationPresent(DecimalRange.class) && !DOUBLE_TYPES.contains(type) && !BOXED_DECIMALS.contains(type))
+            throw new IllegalArgumentException("@DecimalRange can't be used on the component " + component.getName() + " of type " + type.getName());
+
+        if(INT_TYPES.contains(type)){
+            ToIntFunction<R> keyExtractor = spinAccessor(lookup,accessor,ToIntFunction.class,"applyAsInt",int.class);
+            if(keyExtractor == null)
+                keyExtractor = new IntAccessor<>(accessor);
+            IntPredicateHolder<R> holder = previous == null ? new IntPredicateHolder<>(keyExtractor) : previous.intKey(keyExtractor);
+            addIntBounds(holder,component);
+            return holder;
+        }
+        if(type == long.class){
+            ToLongFunction<R> keyExtractor = spinAccessor(lookup,accessor,ToLongFunction.class,"applyAsLong",long.class);
+            if(keyExtractor == null)
+                keyExtractor = new LongAccessor<>(accessor);
+            LongPredicateHolder<R> holder = previous == null ? new LongPredicateHolder<>(keyExtractor) : previous.longKey(keyExtractor);
+            addLongBounds(holder,component);
+            return holder;
+        }
+        if(DOUBLE_TYPES.contains(type)){
+            ToDoubleFunction<R> keyExtractor = spinAccessor(lookup,accessor,ToDoubleFunction.class,"applyAsDouble",double.class);
+            if(keyExtractor == null)
+                keyExtractor = new DoubleAccessor<>(accessor);
+            DoublePredicateHolder<R> holder = previous == null ? new DoublePredicateHolder<>(keyExtractor) : previous.doubleKey(keyExtractor);
+            addDoubleBounds(holder,component);
+            return holder;
+        }
+        if(type.isPrimitive())
+            throw new IllegalArgumentException("number constraints can't be used on the component " + component.getName() + " of type " + type.getName());
+
+        Function<R,Object> keyExtractor = spinAccessor(lookup,accessor,Function.class,"apply",type);
+        if(keyExtractor == null)
+            keyExtractor = new ObjectAccessor<>(accessor);
+        PredicateHolder<R,Object> holder = previous == null ? new PredicateHolder<>(keyExtractor) : previous.key(keyExtractor);
+        if(notNull || BOXED_INTEGERS.contains(type) || BOXED_DECIMALS.contains(type))
+            holder.addCondition(Objects::nonNull);
+        addBoxedConditions(holder,component,BOXED_DECIMALS.contains(type));
+        return holder;
+    }
+
+    private static void addIntBounds(IntPredicateHolder<?> holder, RecordComponent component){
+        if(component.isAnnotationPresent(Positive.class))
+            holder.addLowerBound(0,false);
+        if(component.isAnnotationPresent(Negative.class))
+            holder.addUpperBound(0,false);
+        InRange range = component.getAnnotation(InRange.class);
+        if(range != null){
+            if(range.min() > Integer.MAX_VALUE)
+                holder.addLowerBound(Integer.MAX_VALUE,false);
+            else
+                holder.addLowerBound((int) Math.max(range.min(),Integer.MIN_VALUE),true);
+            if(range.max() < Integer.MIN_VALUE)
+                holder.addUpperBound(Integer.MIN_VALUE,false);
+            else if(range.max() <= Integer.MAX_VALUE)
+                holder.addUpperBound((int) range.max(),false);
+        }
+    }
+
+    private static void addLongBounds(LongPredicateHolder<?> holder, RecordComponent component){
+        if(component.isAnnotationPresent(Positive.class))
+            holder.addLowerBound(0,false);
+        if(component.isAnnotationPresent(Negative.class))
+            holder.addUpperBound(0,false);
+        InRange range = component.getAnnotation(InRange.class);
+        if(range != null){
+            holder.addLowerBound(range.min(),true);
+            if(range.max() != Long.MAX_VALUE)
+                holder.addUpperBound(range.max(),false);
+        }
+    }
+
+    private static void addDoubleBounds(DoublePredicateHolder<?> holder, RecordComponent component){
+        if(component.isAnnotationPresent(Positive.class))
+            holder.addLowerBound(0,false);
+        if(component.isAnnotationPresent(Negative.class))
+            holder.addUpperBound(0,false);
+        InRange range = component.getAnnotation(InRange.class);
+        if(range != null){
+            holder.addLowerBound(range.min(),true);
+            if(range.max() != Long.MAX_VALUE)
+                holder.addUpperBound(range.max(),false);
+        }
+        DecimalRange decimalRange = component.getAnnotation(DecimalRange.class);
+        if(decimalRange != null){
+            holder.addLowerBound(decimalRange.min(),true);
+            if(decimalRange.max() != Double.POSITIVE_INFINITY)
+                holder.addUpperBound(decimalRange.max(),false);
+        }
+    }
+
+    private static void addBoxedConditions(PredicateHolder<?,Object> holder, RecordComponent component, boolean decimal){
+        if(component.isAnnotationPresent(Positive.class))
+            holder.addCondition(decimal ? n -> ((Number) n).doubleValue() > 0 : n -> ((Number) n).longValue() > 0);
+        if(component.isAnnotationPresent(Negative.class))
+            holder.addCondition(decimal ? n -> ((Number) n).doubleValue() < 0 : n -> ((Number) n).longValue() < 0);
+        InRange range = component.getAnnotation(InRange.class);
+        if(range != null){
+            long min = range.min();
+            long max = range.max();
+            boolean bounded = max != Long.MAX_VALUE;
+            if(decimal)
+                holder.addCondition(n -> ((Number) n).doubleValue() >= min && (!bounded || ((Number) n).doubleValue() < max));
+            else
+                holder.addCondition(n -> ((Number) n).longValue() >= min && (!bounded || ((Number) n).longValue() < max));
+        }
+        DecimalRange decimalRange = component.getAnnotation(DecimalRange.class);
+        if(decimalRange != null){
+            double min = decimalRange.min();
+            double max = decimalRange.max();
+            boolean bounded = max != Double.POSITIVE_INFINITY;
+            holder.addCondition(n -> ((Number) n).doubleValue() >= min && (!bounded || ((Number) n).doubleValue() < max));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> Predicate<R>[] newPredicateArray(){
+        return (Predicate<R>[]) new Predicate<?>[0];
+    }
+
+    /**
+     * Spins a class implementing the functional interface which calls the accessor directly, like a method reference.
+     * Unlike a MethodHandle held in a field the call can be inlined by the JIT
+     * @param lookup the private lookup in the record class
+     * @param accessor the accessor of the component
+     * @param functionType the functional interface
+     * @param methodName the name of its method
+     * @param returnType the return type of its method, the accessor's return type is widened to it
+     * @return the key extractor or null if the lookup can't define classes in the record's module
+     */
+    @SuppressWarnings("unchecked")
+    private static <F> F spinAccessor(MethodHandles.Lookup lookup, MethodHandle accessor, Class<?> functionType, String methodName, Class<?> returnType){
+        Class<?> recordClass = accessor.type().parameterType(0);
+        Class<?> erasedReturnType = returnType.isPrimitive() ? returnType : Object.class;
+        try{
+            CallSite site = LambdaMetafactory.metafactory(lookup,methodName,MethodType.methodType(functionType),
+                    MethodType.methodType(erasedReturnType,Object.class),accessor,MethodType.methodType(returnType,recordClass));
+            return (F) site.getTarget().invoke();
+        }
+        catch (LambdaConversionException | IllegalArgumentException e){
+            return null;
+        }
+        catch (Throwable e){
+            throw rethrow(e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable e){
+        if(e instanceof RuntimeException runtimeException)
+            return runtimeException;
+        if(e instanceof Error error)
+            throw error;
+        return new UndeclaredThrowableException(e);
+    }
+
+    /**
+     * key extractor calling a record accessor, if no class can be spun for it.
+     * The handle has the exact type (Object)int
+     */
+    private static final class IntAccessor<R> implements ToIntFunction<R> {
+        private final MethodHandle accessor;
+
+        IntAccessor(MethodHandle accessor){
+            this.accessor = accessor.asType(MethodType.methodType(int.class,Object.class));
+        }
+
+        @Override
+        public int applyAsInt(R value) {
+            try{
+                return (int) accessor.invokeExact((Object) value);
+            }
+            catch (Throwable e){
+                throw rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * key extractor calling a record accessor, if no class can be spun for it.
+     * The handle has the exact type (Object)long
+     */
+    private static final class LongAccessor<R> implements ToLongFunction<R> {
+        private final MethodHandle accessor;
+
+        LongAccessor(MethodHandle accessor){
+            this.accessor = accessor.asType(MethodType.methodType(long.class,Object.class));
+        }
+
+        @Override
+        public long applyAsLong(R value) {
+            try{
+                return (long) accessor.invokeExact((Object) value);
+            }
+            catch (Throwable e){
+                throw rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * key extractor calling a record accessor, if no class can be spun for it.
+     * The handle has the exact type (Object)double
+     */
+    private static final class DoubleAccessor<R> implements ToDoubleFunction<R> {
+        private final MethodHandle accessor;
+
+        DoubleAccessor(MethodHandle accessor){
+            this.accessor = accessor.asType(MethodType.methodType(double.class,Object.class));
+        }
+
+        @Override
+        public double applyAsDouble(R value) {
+            try{
+                return (double) accessor.invokeExact((Object) value);
+            }
+            catch (Throwable e){
+                throw rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * key extractor calling a record accessor, if no class can be spun for it.
+     * The handle has the exact type (Object)Object
+     */
+    private static final class ObjectAccessor<R> implements Function<R,Object> {
+        private final MethodHandle accessor;
+
+        ObjectAccessor(MethodHandle accessor){
+            this.accessor = accessor.asType(MethodType.methodType(Object.class,Object.class));
+        }
+
+        @Override
+        public Object apply(R value) {
+            try{
+                return accessor.invokeExact((Object) value);
+            }
+            catch (Throwable e){
+                throw rethrow(e);
+            }
+        }
+    }
+}
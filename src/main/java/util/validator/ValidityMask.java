@@ -0,0 +1,104 @@
+package util.validator;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Immutable result of a batch validation, with one bit per validated object.
+ * A set bit means the object at that index is valid
+ */
+public final class ValidityMask {
+    private final long[] words;
+    private final int size;
+    private final int validCount;
+
+    /**
+     * @param words the bits, the object at index i is valid if bit (i % 64) of words[i / 64] is set.
+     *              They are copied, so later changes to the array don't change the mask
+     * @param size the number of validated objects
+     */
+    public ValidityMask(long[] words, int size){
+        this.words = words.clone();
+        this.size = size;
+        int validCount = 0;
+        for(long word : words){
+            validCount += Long.bitCount(word);
+        }
+        this.validCount = validCount;
+    }
+
+    /**
+     * Returns the words for a mask of the given size where every object is valid
+     * @param size the number of objects
+     * @return the words with the first size bits set
+     */
+    public static long[] allValidWords(int size){
+        long[] words = new long[(size + 63) >>> 6];
+        Arrays.fill(words,-1L);
+        if((size & 63) != 0)
+            words[words.length - 1] = (1L << size) - 1;
+        return words;
+    }
+
+    /**
+     * @param index the index of the object
+     * @return if the object at the index is valid
+     */
+    public boolean isValid(int index){
+        if(index < 0 || index >= size)
+            throw new IndexOutOfBoundsException(index);
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * @param fromIndex the index to start searching from
+     * @return the index of the next invalid object, or -1 if there is none
+     */
+    public int nextInvalid(int fromIndex){
+        for(int w = fromIndex >>> 6; w < words.length; w++){
+            long word = ~words[w];
+            if(w == fromIndex >>> 6)
+                word &= -1L << fromIndex;
+            if(word != 0){
+                int index = (w << 6) + Long.numberOfTrailingZeros(word);
+                return index < size ? index : -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the number of validated objects
+     */
+    public int size(){
+        return size;
+    }
+
+    /**
+     * @return the number of valid objects
+     */
+    public int validCount(){
+        return validCount;
+    }
+
+    /**
+     * @return if every object is valid
+     */
+    public boolean allValid(){
+        return validCount == size;
+    }
+
+    /**
+     * @return a new BitSet with the bits of the valid objects set
+     */
+    public BitSet toBitSet(){
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * @return a copy of the words of this mask
+     */
+    public long[] toLongArray(){
+        return words.clone();
+    }
+}
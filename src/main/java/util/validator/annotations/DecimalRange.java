@@ -0,0 +1,28 @@
+package util.validator.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * the annotated floating point number must be within normal range of the given values,
+ * like {@link util.validator.builder.numbervalidatorbuilder.NumberValidatorBuilder#inRange}.
+ * NaN is never within the range
+ * <p>
+ * min <= x < max
+ * <p>
+ * Positive infinity as max doesn't bound the number, so positive infinity itself is valid
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.RECORD_COMPONENT})
+public @interface DecimalRange {
+
+    /**
+     * @return the lower bound
+     */
+    double min() default Double.NEGATIVE_INFINITY;
+
+    /**
+     * @return the exclusive upper bound, positive infinity for none
+     */
+    double max() default Double.POSITIVE_INFINITY;
+}
@@ -0,0 +1,28 @@
+package util.validator.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * the annotated number must be within normal range of the given values,
+ * like {@link util.validator.builder.numbervalidatorbuilder.NumberValidatorBuilder#inRange}
+ * <p>
+ * min <= x < max
+ * <p>
+ * Long.MAX_VALUE as max doesn't bound the number, so Long.MAX_VALUE itself is valid.
+ * For fractional bounds of floating point numbers use {@link DecimalRange}
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.RECORD_COMPONENT})
+public @interface InRange {
+
+    /**
+     * @return the lower bound
+     */
+    long min() default Long.MIN_VALUE;
+
+    /**
+     * @return the exclusive upper bound, Long.MAX_VALUE for none
+     */
+    long max() default Long.MAX_VALUE;
+}
@@ -0,0 +1,12 @@
+package util.validator.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * the annotated value must not be null
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.RECORD_COMPONENT})
+public @interface NotNull {
+}
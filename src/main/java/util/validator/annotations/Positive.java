@@ -0,0 +1,14 @@
+package util.validator.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * the annotated number must be positive. 0 is not counted as positive
+ * <p>
+ * x > 0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.RECORD_COMPONENT})
+public @interface Positive {
+}
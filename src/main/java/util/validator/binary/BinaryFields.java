@@ -0,0 +1,106 @@
+package util.validator.binary;
+
+import util.validator.Validator;
+import util.validator.ValidityMask;
+
+import java.nio.ByteBuffer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Key extractors for fixed layout binary records, which read a field in place from a ByteBuffer.
+ * The record starts at the position of the buffer, the offsets are relative to it
+ * and the fields are read in the byte order of the buffer.
+ * Nothing is copied or allocated, so a Validator built from these extractors can validate a direct buffer
+ * straight after it was read from a channel
+ */
+public final class BinaryFields {
+
+    private BinaryFields(){
+    }
+
+    /**
+     * @param offset the offset of the field within the record
+     * @return a key extractor reading the field as signed byte
+     */
+    public static ToIntFunction<ByteBuffer> byteAt(int offset){
+        checkOffset(offset);
+        return buffer -> buffer.get(buffer.position() + offset);
+    }
+
+    /**
+     * @param offset the offset of the field within the record
+     * @return a key extractor reading the field as short
+     */
+    public static ToIntFunction<ByteBuffer> shortAt(int offset){
+        checkOffset(offset);
+        return buffer -> buffer.getShort(buffer.position() + offset);
+    }
+
+    /**
+     * @param offset the offset of the field within the record
+     * @return a key extractor reading the field as int
+     */
+    public static ToIntFunction<ByteBuffer> intAt(int offset){
+        checkOffset(offset);
+        return buffer -> buffer.getInt(buffer.position() + offset);
+    }
+
+    /**
+     * @param offset the offset of the field within the record
+     * @return a key extractor reading the field as long
+     */
+    public static ToLongFunction<ByteBuffer> longAt(int offset){
+        checkOffset(offset);
+        return buffer -> buffer.getLong(buffer.position() + offset);
+    }
+
+    /**
+     * @param offset the offset of the field within the record
+     * @return a key extractor reading the field as float
+     */
+    public static ToDoubleFunction<ByteBuffer> floatAt(int offset){
+        checkOffset(offset);
+        return buffer -> buffer.getFloat(buffer.position() + offset);
+    }
+
+    /**
+     * @param offset the offset of the field within the record
+     * @return a key extractor reading the field as double
+     */
+    public static ToDoubleFunction<ByteBuffer> doubleAt(int offset){
+        checkOffset(offset);
+        return buffer -> buffer.getDouble(buffer.position() + offset);
+    }
+
+    /**
+     * validates every record of a buffer holding consecutive records of the same length.
+     * The records between position and limit are validated, a trailing partial record is ignored.
+     * The position of the buffer isn't changed
+     * @param validator the validator built from the key extractors of this class
+     * @param buffer the buffer with the records
+     * @param recordLength the length of one record in bytes
+     * @return a mask with one bit per record, set if the record is valid
+     * @throws IllegalArgumentException if the record length isn't positive
+     */
+    public static ValidityMask validateRecords(Validator<ByteBuffer> validator, ByteBuffer buffer, int recordLength){
+        if(recordLength <= 0)
+            throw new IllegalArgumentException("the record length must be positive, but is " + recordLength);
+        int count = buffer.remaining() / recordLength;
+        // duplicate() resets the byte order
+        ByteBuffer cursor = buffer.duplicate().order(buffer.order());
+        long[] words = ValidityMask.allValidWords(count);
+        for(int i = 0; i < count; i++){
+            cursor.position(buffer.position() + i * recordLength);
+            if(!validator.validate(cursor))
+                words[i >>> 6] &= ~(1L << i);
+        }
+        return new ValidityMask(words,count);
+    }
+
+    private static void checkOffset(int offset){
+        if(offset < 0)
+            throw new IllegalArgumentException("the offset must not be negative, but is " + offset);
+    }
+}
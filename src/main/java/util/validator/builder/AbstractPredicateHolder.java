@@ -0,0 +1,121 @@
+package util.validator.builder;
+
+import util.validator.builder.condition.AsyncCondition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.*;
+
+/**
+ * Holds the conditions of one key and the holder of the previous key.
+ * The conditions of the previous keys are only compiled by compile(),
+ * so conditions added to an earlier builder after chaining are still part of the chain
+ * @param <T> the type of the object to validate
+ */
+public abstract class AbstractPredicateHolder<T> {
+    private static final Predicate<Object> NEVER = n -> false;
+
+    private final AbstractPredicateHolder<T> previous;
+    private final List<Predicate<T>> asyncPredicates = new ArrayList<>();
+
+    protected AbstractPredicateHolder(){
+        this.previous = null;
+    }
+
+    protected AbstractPredicateHolder(AbstractPredicateHolder<T> previous){
+        this.previous = previous;
+    }
+
+    /**
+     * adds the conditions of this holder's key to the list
+     * @param predicates the list to add the conditions to
+     */
+    protected abstract void compileConditions(List<Predicate<T>> predicates);
+
+    /**
+     * adds a blocking condition, which is already composed with the keyExtractor of this holder.
+     * It is compiled into an AsyncCondition after the other conditions of the key
+     * @param predicate the condition on the object
+     */
+    protected void addAsyncPredicate(Predicate<T> predicate){
+        asyncPredicates.add(predicate);
+    }
+
+    /**
+     * @return if only the key of this holder has conditions and none of them blocks
+     */
+    protected boolean hasSingleKey(){
+        return (previous == null || previous.compileToList().isEmpty()) && asyncPredicates.isEmpty();
+    }
+
+    /**
+     * Returns a new PredicateHolder with a new keyExtractor,
+     * which already contains all the conditions of this one
+     * @param keyExtractor the new keyExtractor
+     * @param <NEW_R> the type of the new key
+     * @return the new PredicateHolder
+     */
+    public <NEW_R> PredicateHolder<T,NEW_R> key(Function<T,NEW_R> keyExtractor){
+        return new PredicateHolder<>(this,keyExtractor);
+    }
+
+    /**
+     * Returns a new IntPredicateHolder with a new keyExtractor,
+     * which already contains all the conditions of this one
+     * @param keyExtractor the new keyExtractor
+     * @return the new IntPredicateHolder
+     */
+    public IntPredicateHolder<T> intKey(ToIntFunction<T> keyExtractor){
+        return new IntPredicateHolder<>(this,keyExtractor);
+    }
+
+    /**
+     * Returns a new LongPredicateHolder with a new keyExtractor,
+     * which already contains all the conditions of this one
+     * @param keyExtractor the new keyExtractor
+     * @return the new LongPredicateHolder
+     */
+    public LongPredicateHolder<T> longKey(ToLongFunction<T> keyExtractor){
+        return new LongPredicateHolder<>(this,keyExtractor);
+    }
+
+    /**
+     * Returns a new DoublePredicateHolder with a new keyExtractor,
+     * which already contains all the conditions of this one
+     * @param keyExtractor the new keyExtractor
+     * @return the new DoublePredicateHolder
+     */
+    public DoublePredicateHolder<T> doubleKey(ToDoubleFunction<T> keyExtractor){
+        return new DoublePredicateHolder<>(this,keyExtractor);
+    }
+
+    /**
+     * Returns all the conditions of this holder, including the ones of the previous keys
+     * @return a new array containing the conditions in insertion order
+     */
+    @SuppressWarnings("unchecked")
+    public Predicate<T>[] compile(){
+        return compileToList().toArray(Predicate[]::new);
+    }
+
+    /**
+     * Returns a condition that is never met, used for contradicting conditions
+     * @param <T> the type of the object to validate
+     * @return the condition
+     */
+    @SuppressWarnings("unchecked")
+    protected static <T> Predicate<T> never(){
+        return (Predicate<T>) NEVER;
+    }
+
+    private List<Predicate<T>> compileToList(){
+        List<Predicate<T>> predicates = previous == null ? new ArrayList<>() : previous.compileToList();
+        compileConditions(predicates);
+        for(Predicate<T> predicate : asyncPredicates){
+            predicates.add(new AsyncCondition<>(predicate));
+        }
+        if(predicates.contains(never()))
+            return new ArrayList<>(List.of(never()));
+        return predicates;
+    }
+}
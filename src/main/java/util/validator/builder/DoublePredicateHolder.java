@@ -0,0 +1,104 @@
+package util.validator.builder;
+
+import util.validator.builder.condition.DoubleKeyCondition;
+import util.validator.column.DoubleColumnValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoublePredicate;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * PredicateHolder for double keys, the key is never boxed.
+ * All bounds added to this holder are folded into a single inclusive interval
+ * @param <T> the type of the object to validate
+ */
+public class DoublePredicateHolder<T> extends AbstractPredicateHolder<T> {
+    private final List<DoublePredicate> predicates = new ArrayList<>();
+    private final ToDoubleFunction<T> keyExtractor;
+    private double min = Double.NEGATIVE_INFINITY;
+    private double max = Double.POSITIVE_INFINITY;
+    private boolean bounded;
+    private boolean empty;
+
+
+    public DoublePredicateHolder(ToDoubleFunction<T> keyExtractor){
+        this.keyExtractor = keyExtractor;
+    }
+
+    DoublePredicateHolder(AbstractPredicateHolder<T> previous, ToDoubleFunction<T> keyExtractor){
+        super(previous);
+        this.keyExtractor = keyExtractor;
+    }
+
+    public void addCondition(DoublePredicate predicate){
+        predicates.add(predicate);
+    }
+
+    /**
+     * adds a condition which blocks, e.g. for a lookup
+     * @param predicate the condition on the key
+     */
+    public void addAsyncCondition(DoublePredicate predicate){
+        addAsyncPredicate(t -> predicate.test(keyExtractor.applyAsDouble(t)));
+    }
+
+    /**
+     * narrows the interval of valid keys to values bigger than the bound.
+     * NaN is never within a bounded interval
+     * @param bound the lower bound
+     * @param inclusive if the bound itself is valid
+     */
+    public void addLowerBound(double bound, boolean inclusive){
+        bounded = true;
+        if(Double.isNaN(bound) || (!inclusive && bound == Double.POSITIVE_INFINITY)){
+            empty = true;
+            return;
+        }
+        if(!inclusive)
+            bound = Math.nextUp(bound);
+        min = Math.max(min,bound);
+    }
+
+    /**
+     * narrows the interval of valid keys to values smaller than the bound.
+     * NaN is never within a bounded interval
+     * @param bound the upper bound
+     * @param inclusive if the bound itself is valid
+     */
+    public void addUpperBound(double bound, boolean inclusive){
+        bounded = true;
+        if(Double.isNaN(bound) || (!inclusive && bound == Double.NEGATIVE_INFINITY)){
+            empty = true;
+            return;
+        }
+        if(!inclusive)
+            bound = Math.nextDown(bound);
+        max = Math.min(max,bound);
+    }
+
+    /**
+     * compiles the conditions of this key into a validator for whole columns of double keys
+     * @return the ColumnValidator
+     * @throws IllegalStateException if a previous key has conditions or a condition blocks
+     */
+    public DoubleColumnValidator compileColumn(){
+        if(!hasSingleKey())
+            throw new IllegalStateException("only the conditions of a single double key can be compiled into a ColumnValidator");
+        if(empty || min > max)
+            return new DoubleColumnValidator(true,1,0,new DoublePredicate[0]);
+        return new DoubleColumnValidator(bounded,min,max,this.predicates.toArray(DoublePredicate[]::new));
+    }
+
+    @Override
+    protected void compileConditions(List<Predicate<T>> predicates) {
+        if(empty || min > max){
+            predicates.add(never());
+            return;
+        }
+        if(bounded || !this.predicates.isEmpty())
+            predicates.add(new DoubleKeyCondition<>(keyExtractor,bounded,min,max,this.predicates.toArray(DoublePredicate[]::new)));
+    }
+
+}
@@ -0,0 +1,102 @@
+package util.validator.builder;
+
+import util.validator.builder.condition.IntKeyCondition;
+import util.validator.column.IntColumnValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * PredicateHolder for int keys, the key is never boxed.
+ * All bounds added to this holder are folded into a single inclusive interval
+ * @param <T> the type of the object to validate
+ */
+public class IntPredicateHolder<T> extends AbstractPredicateHolder<T> {
+    private final List<IntPredicate> predicates = new ArrayList<>();
+    private final ToIntFunction<T> keyExtractor;
+    private int min = Integer.MIN_VALUE;
+    private int max = Integer.MAX_VALUE;
+    private boolean empty;
+
+
+    public IntPredicateHolder(ToIntFunction<T> keyExtractor){
+        this.keyExtractor = keyExtractor;
+    }
+
+    IntPredicateHolder(AbstractPredicateHolder<T> previous, ToIntFunction<T> keyExtractor){
+        super(previous);
+        this.keyExtractor = keyExtractor;
+    }
+
+    public void addCondition(IntPredicate predicate){
+        predicates.add(predicate);
+    }
+
+    /**
+     * adds a condition which blocks, e.g. for a lookup
+     * @param predicate the condition on the key
+     */
+    public void addAsyncCondition(IntPredicate predicate){
+        addAsyncPredicate(t -> predicate.test(keyExtractor.applyAsInt(t)));
+    }
+
+    /**
+     * narrows the interval of valid keys to values bigger than the bound
+     * @param bound the lower bound
+     * @param inclusive if the bound itself is valid
+     */
+    public void addLowerBound(int bound, boolean inclusive){
+        if(!inclusive){
+            if(bound == Integer.MAX_VALUE){
+                empty = true;
+                return;
+            }
+            bound++;
+        }
+        min = Math.max(min,bound);
+    }
+
+    /**
+     * narrows the interval of valid keys to values smaller than the bound
+     * @param bound the upper bound
+     * @param inclusive if the bound itself is valid
+     */
+    public void addUpperBound(int bound, boolean inclusive){
+        if(!inclusive){
+            if(bound == Integer.MIN_VALUE){
+                empty = true;
+                return;
+            }
+            bound--;
+        }
+        max = Math.min(max,bound);
+    }
+
+    /**
+     * compiles the conditions of this key into a validator for whole columns of int keys
+     * @return the ColumnValidator
+     * @throws IllegalStateException if a previous key has conditions or a condition blocks
+     */
+    public IntColumnValidator compileColumn(){
+        if(!hasSingleKey())
+            throw new IllegalStateException("only the conditions of a single int key can be compiled into a ColumnValidator");
+        if(empty)
+            return new IntColumnValidator(1,0,new IntPredicate[0]);
+        return new IntColumnValidator(min,max,this.predicates.toArray(IntPredicate[]::new));
+    }
+
+    @Override
+    protected void compileConditions(List<Predicate<T>> predicates) {
+        if(empty || min > max){
+            predicates.add(never());
+            return;
+        }
+        var condition = new IntKeyCondition<>(keyExtractor,min,max,this.predicates.toArray(IntPredicate[]::new));
+        if(condition.isBounded() || !this.predicates.isEmpty())
+            predicates.add(condition);
+    }
+
+}
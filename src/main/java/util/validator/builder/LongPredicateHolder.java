@@ -0,0 +1,102 @@
+package util.validator.builder;
+
+import util.validator.builder.condition.LongKeyCondition;
+import util.validator.column.LongColumnValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * PredicateHolder for long keys, the key is never boxed.
+ * All bounds added to this holder are folded into a single inclusive interval
+ * @param <T> the type of the object to validate
+ */
+public class LongPredicateHolder<T> extends AbstractPredicateHolder<T> {
+    private final List<LongPredicate> predicates = new ArrayList<>();
+    private final ToLongFunction<T> keyExtractor;
+    private long min = Long.MIN_VALUE;
+    private long max = Long.MAX_VALUE;
+    private boolean empty;
+
+
+    public LongPredicateHolder(ToLongFunction<T> keyExtractor){
+        this.keyExtractor = keyExtractor;
+    }
+
+    LongPredicateHolder(AbstractPredicateHolder<T> previous, ToLongFunction<T> keyExtractor){
+        super(previous);
+        this.keyExtractor = keyExtractor;
+    }
+
+    public void addCondition(LongPredicate predicate){
+        predicates.add(predicate);
+    }
+
+    /**
+     * adds a condition which blocks, e.g. for a lookup
+     * @param predicate the condition on the key
+     */
+    public void addAsyncCondition(LongPredicate predicate){
+        addAsyncPredicate(t -> predicate.test(keyExtractor.applyAsLong(t)));
+    }
+
+    /**
+     * narrows the interval of valid keys to values bigger than the bound
+     * @param bound the lower bound
+     * @param inclusive if the bound itself is valid
+     */
+    public void addLowerBound(long bound, boolean inclusive){
+        if(!inclusive){
+            if(bound == Long.MAX_VALUE){
+                empty = true;
+                return;
+            }
+            bound++;
+        }
+        min = Math.max(min,bound);
+    }
+
+    /**
+     * narrows the interval of valid keys to values smaller than the bound
+     * @param bound the upper bound
+     * @param inclusive if the bound itself is valid
+     */
+    public void addUpperBound(long bound, boolean inclusive){
+        if(!inclusive){
+            if(bound == Long.MIN_VALUE){
+                empty = true;
+                return;
+            }
+            bound--;
+        }
+        max = Math.min(max,bound);
+    }
+
+    /**
+     * compiles the conditions of this key into a validator for whole columns of long keys
+     * @return the ColumnValidator
+     * @throws IllegalStateException if a previous key has conditions or a condition blocks
+     */
+    public LongColumnValidator compileColumn(){
+        if(!hasSingleKey())
+            throw new IllegalStateException("only the conditions of a single long key can be compiled into a ColumnValidator");
+        if(empty)
+            return new LongColumnValidator(1,0,new LongPredicate[0]);
+        return new LongColumnValidator(min,max,this.predicates.toArray(LongPredicate[]::new));
+    }
+
+    @Override
+    protected void compileConditions(List<Predicate<T>> predicates) {
+        if(empty || min > max){
+            predicates.add(never());
+            return;
+        }
+        var condition = new LongKeyCondition<>(keyExtractor,min,max,this.predicates.toArray(LongPredicate[]::new));
+        if(condition.isBounded() || !this.predicates.isEmpty())
+            predicates.add(condition);
+    }
+
+}
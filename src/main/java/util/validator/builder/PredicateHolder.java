@@ -1,40 +1,47 @@
 package util.validator.builder;
 
+import util.validator.builder.condition.ObjectKeyCondition;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
-public class PredicateHolder<T,R> {
-    private List<Predicate<T>> predicates;
-    private Function<T,R> keyExtractor;
+public class PredicateHolder<T,R> extends AbstractPredicateHolder<T> {
+    private final List<Predicate<R>> predicates = new ArrayList<>();
+    private final Function<T,R> keyExtractor;
 
 
     public PredicateHolder(Function<T,R> keyExtractor){
         this.keyExtractor = keyExtractor;
-        predicates = new ArrayList<>();
     }
 
-    private PredicateHolder(Function<T,R> keyExtractor,List<Predicate<T>> predicates){
+    PredicateHolder(AbstractPredicateHolder<T> previous, Function<T,R> keyExtractor){
+        super(previous);
         this.keyExtractor = keyExtractor;
-        this.predicates = new ArrayList<>(predicates);
     }
 
     public void addCondition(Predicate<R> predicate){
-        Predicate<T> test = (n) -> predicate.test(keyExtractor.apply(n));
-        predicates.add(test);
-    }
-
-    public void addExtractedCondition(Predicate<T> predicate){
         predicates.add(predicate);
     }
 
-    public <NEW_R> PredicateHolder<T,NEW_R> key(Function<T,NEW_R> keyExtractor){
-        return new PredicateHolder<>(keyExtractor,predicates);
+    /**
+     * adds a condition which blocks, e.g. for a lookup
+     * @param predicate the condition on the key
+     */
+    public void addAsyncCondition(Predicate<R> predicate){
+        addAsyncPredicate(t -> predicate.test(keyExtractor.apply(t)));
     }
 
-    public boolean test(T object){
-        return predicates.stream().allMatch(p -> p.test(object));
+    /**
+     * compiles all conditions of this key into one, which extracts the key only once per object
+     * @param predicates the list to add the conditions to
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void compileConditions(List<Predicate<T>> predicates) {
+        if(!this.predicates.isEmpty())
+            predicates.add(new ObjectKeyCondition<>(keyExtractor,this.predicates.toArray(Predicate[]::new)));
     }
 
 }
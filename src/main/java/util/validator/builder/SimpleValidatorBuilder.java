@@ -1,47 +1,52 @@
 package util.validator.builder;
 
+import util.validator.AsyncValidator;
 import util.validator.Validator;
+import util.validator.builder.codegen.ValidatorGenerator;
 import util.validator.builder.numbervalidatorbuilder.DoubleValidatorBuilder;
 import util.validator.builder.numbervalidatorbuilder.IntValidatorBuilder;
 import util.validator.builder.numbervalidatorbuilder.LongValidatorBuilder;
 import util.validator.builder.numbervalidatorbuilder.implementations.DoubleValidatorBuilderImpl;
 import util.validator.builder.numbervalidatorbuilder.implementations.IntValidatorBuilderImpl;
 import util.validator.builder.numbervalidatorbuilder.implementations.LongValidatorBuilderImpl;
-import util.validator.implementations.AbstractValidator;
+import util.validator.implementations.AdaptiveValidator;
+import util.validator.implementations.CompiledAsyncValidator;
+import util.validator.implementations.CompiledValidator;
+import util.validator.implementations.InstrumentedValidator;
 
+import java.util.concurrent.Executor;
 import java.util.function.*;
 
 public class SimpleValidatorBuilder<T,R> implements ValidatorBuilder<T,R>{
 
-    private PredicateHolder<T,R> predicateHolder;
+    private final PredicateHolder<T,R> predicateHolder;
 
     public SimpleValidatorBuilder(Function<T,R> keyExtractor){
         this.predicateHolder = new PredicateHolder<>(keyExtractor);
     }
 
-    public SimpleValidatorBuilder(ValidatorBuilder<T, ?> validatorBuilder, Function<T, R> keyExtractor){
-        this.predicateHolder = new PredicateHolder<>(keyExtractor);
-        this.predicateHolder.addExtractedCondition(n -> validatorBuilder.build().validate(n));
+    public SimpleValidatorBuilder(PredicateHolder<T,R> predicateHolder){
+        this.predicateHolder = predicateHolder;
     }
 
     @Override
     public <NEW_R> ValidatorBuilder<T,NEW_R> key(Function<T, NEW_R> keyExtractor) {
-        return new SimpleValidatorBuilder<>(this,keyExtractor);
+        return new SimpleValidatorBuilder<>(predicateHolder.key(keyExtractor));
     }
 
     @Override
     public DoubleValidatorBuilder<T> doubleKey(ToDoubleFunction<T> keyExtractor) {
-        return new DoubleValidatorBuilderImpl<>(this,keyExtractor);
+        return new DoubleValidatorBuilderImpl<>(predicateHolder.doubleKey(keyExtractor));
     }
 
     @Override
     public IntValidatorBuilder<T> intKey(ToIntFunction<T> keyExtractor) {
-        return new IntValidatorBuilderImpl<>(this,keyExtractor);
+        return new IntValidatorBuilderImpl<>(predicateHolder.intKey(keyExtractor));
     }
 
     @Override
     public LongValidatorBuilder<T> longKey(ToLongFunction<T> keyExtractor) {
-        return new LongValidatorBuilderImpl<>(this,keyExtractor);
+        return new LongValidatorBuilderImpl<>(predicateHolder.longKey(keyExtractor));
     }
 
 
@@ -51,14 +56,40 @@ public class SimpleValidatorBuilder<T,R> implements ValidatorBuilder<T,R>{
         return this;
     }
 
+    @Override
+    public ValidatorBuilder<T,R> validatingAsync(Predicate<R> isValid) {
+        predicateHolder.addAsyncCondition(isValid);
+        return this;
+    }
+
 
     @Override
     public Validator<T> build() {
-        return new AbstractValidator<>() {
-            @Override
-            public boolean validate(T toValidate) {
-                return predicateHolder.test(toValidate);
-            }
-        };
+        return new CompiledValidator<>(predicateHolder.compile());
+    }
+
+    @Override
+    public Validator<T> buildAdaptive() {
+        return new AdaptiveValidator<>(predicateHolder.compile());
+    }
+
+    @Override
+    public Validator<T> buildGenerated() {
+        return ValidatorGenerator.generate(predicateHolder.compile());
+    }
+
+    @Override
+    public InstrumentedValidator<T> buildInstrumented() {
+        return new InstrumentedValidator<>(predicateHolder.compile());
+    }
+
+    @Override
+    public AsyncValidator<T> buildAsync() {
+        return new CompiledAsyncValidator<>(predicateHolder.compile());
+    }
+
+    @Override
+    public AsyncValidator<T> buildAsync(Executor executor) {
+        return new CompiledAsyncValidator<>(predicateHolder.compile(),executor);
     }
 }
@@ -1,10 +1,13 @@
 package util.validator.builder;
 
+import util.validator.AsyncValidator;
 import util.validator.Validator;
 import util.validator.builder.numbervalidatorbuilder.DoubleValidatorBuilder;
 import util.validator.builder.numbervalidatorbuilder.IntValidatorBuilder;
 import util.validator.builder.numbervalidatorbuilder.LongValidatorBuilder;
+import util.validator.implementations.InstrumentedValidator;
 
+import java.util.concurrent.Executor;
 import java.util.function.*;
 
 public interface ValidatorBuilder<T,R> {
@@ -49,9 +52,56 @@ public interface ValidatorBuilder<T,R> {
      */
     ValidatorBuilder<T,R> validating(Predicate<R> isValid);
 
+    /**
+     * adds a new Condition which blocks, e.g. for a lookup in another service.
+     * Validators from buildAsync() evaluate these conditions concurrently,
+     * all other Validators evaluate them like any other condition
+     * @param isValid the new Condition
+     * @return the current ValidatorBuilder
+     */
+    ValidatorBuilder<T,R> validatingAsync(Predicate<R> isValid);
+
     /**
      * Builds a Validator from this ValidatorBuilder objects
      * @return a build Validator
      */
     Validator<T> build();
+
+    /**
+     * Builds a Validator which reorders its conditions at runtime,
+     * so that cheap conditions which often fail are tested first.
+     * Only use this if the conditions don't depend on each other
+     * @return a build Validator
+     */
+    Validator<T> buildAdaptive();
+
+    /**
+     * Builds a Validator whose validate() method is generated at runtime as a hidden class,
+     * which tests all conditions in one straight line of code.
+     * Needs org.ow2.asm:asm on the classpath
+     * @return a build Validator
+     */
+    Validator<T> buildGenerated();
+
+    /**
+     * Builds a Validator which records how often every condition is evaluated,
+     * how often it fails and how long it takes.
+     * The other build methods create Validators without any instrumentation
+     * @return a build Validator
+     */
+    InstrumentedValidator<T> buildInstrumented();
+
+    /**
+     * Builds a Validator which evaluates the conditions added with validatingAsync() concurrently,
+     * on virtual threads if the runtime has them, otherwise on a shared pool of daemon threads
+     * @return a build Validator
+     */
+    AsyncValidator<T> buildAsync();
+
+    /**
+     * Builds a Validator which evaluates the conditions added with validatingAsync() concurrently on the executor
+     * @param executor the executor to evaluate the conditions on
+     * @return a build Validator
+     */
+    AsyncValidator<T> buildAsync(Executor executor);
 }
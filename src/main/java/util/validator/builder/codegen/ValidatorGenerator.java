@@ -0,0 +1,210 @@
+package util.validator.builder.codegen;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import util.validator.Validator;
+import util.validator.builder.condition.DoubleKeyCondition;
+import util.validator.builder.condition.IntKeyCondition;
+import util.validator.builder.condition.LongKeyCondition;
+import util.validator.builder.condition.ObjectKeyCondition;
+import util.validator.implementations.AbstractValidator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.*;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Generates a hidden class for the compiled conditions of a ValidatorBuilder.
+ * The generated validate() method tests all conditions in one straight line of code,
+ * every key extractor and condition has its own call site, so the JIT can inline them.
+ * The bounds of the number builders are emitted as primitive comparisons.
+ * <p>
+ * Needs org.ow2.asm:asm on the classpath
+ */
+public final class ValidatorGenerator {
+    private static final String CLASS_NAME = ValidatorGenerator.class.getPackageName().replace('.','/') + "/GeneratedValidator";
+    private static final String SUPER_NAME = Type.getInternalName(AbstractValidator.class);
+    private static final String OBJECT = "Ljava/lang/Object;";
+
+    private final List<Object> values = new ArrayList<>();
+    private final List<Class<?>> valueTypes = new ArrayList<>();
+    private final ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+    private MethodVisitor validate;
+    private int nextLocal = 2;
+
+    private ValidatorGenerator(){
+    }
+
+    /**
+     * Generates a Validator testing the conditions in order
+     * @param predicates the compiled conditions
+     * @param <T> the type of the object to validate
+     * @return the generated Validator
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Validator<T> generate(Predicate<T>[] predicates){
+        var generator = new ValidatorGenerator();
+        byte[] bytes = generator.generateClass(predicates);
+        try{
+            MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytes,true);
+            MethodHandle constructor = lookup.findConstructor(lookup.lookupClass(),MethodType.methodType(void.class,Object[].class));
+            return (Validator<T>) constructor.invoke(generator.values.toArray());
+        }
+        catch (Throwable e){
+            throw new IllegalStateException("couldn't generate validator",e);
+        }
+    }
+
+    private byte[] generateClass(Predicate<?>[] predicates){
+        classWriter.visit(V16,ACC_PUBLIC | ACC_FINAL | ACC_SUPER,CLASS_NAME,null,SUPER_NAME,null);
+
+        validate = classWriter.visitMethod(ACC_PUBLIC,"validate","(" + OBJECT + ")Z",null,null);
+        validate.visitCode();
+        for(Predicate<?> predicate : predicates){
+            if(predicate instanceof ObjectKeyCondition<?,?> condition)
+                generateObjectKey(condition);
+            else if(predicate instanceof IntKeyCondition<?> condition)
+                generateIntKey(condition);
+            else if(predicate instanceof LongKeyCondition<?> condition)
+                generateLongKey(condition);
+            else if(predicate instanceof DoubleKeyCondition<?> condition)
+                generateDoubleKey(condition);
+            else
+                generateTest(predicate,Predicate.class,Type.getType(Object.class),1);
+        }
+        validate.visitInsn(ICONST_1);
+        validate.visitInsn(IRETURN);
+        validate.visitMaxs(0,0);
+        validate.visitEnd();
+
+        for(int i = 0; i < valueTypes.size(); i++){
+            classWriter.visitField(ACC_PRIVATE | ACC_FINAL,field(i),Type.getDescriptor(valueTypes.get(i)),null,null).visitEnd();
+        }
+        generateConstructor();
+        classWriter.visitEnd();
+        return classWriter.toByteArray();
+    }
+
+    private void generateConstructor(){
+        MethodVisitor constructor = classWriter.visitMethod(ACC_PUBLIC,"<init>","([Ljava/lang/Object;)V",null,null);
+        constructor.visitCode();
+        constructor.visitVarInsn(ALOAD,0);
+        constructor.visitMethodInsn(INVOKESPECIAL,SUPER_NAME,"<init>","()V",false);
+        for(int i = 0; i < valueTypes.size(); i++){
+            constructor.visitVarInsn(ALOAD,0);
+            constructor.visitVarInsn(ALOAD,1);
+            constructor.visitLdcInsn(i);
+            constructor.visitInsn(AALOAD);
+            constructor.visitTypeInsn(CHECKCAST,Type.getInternalName(valueTypes.get(i)));
+            constructor.visitFieldInsn(PUTFIELD,CLASS_NAME,field(i),Type.getDescriptor(valueTypes.get(i)));
+        }
+        constructor.visitInsn(RETURN);
+        constructor.visitMaxs(0,0);
+        constructor.visitEnd();
+    }
+
+    private void generateObjectKey(ObjectKeyCondition<?,?> condition){
+        int key = extract(condition.getKeyExtractor(),Function.class,"apply",Type.getType(Object.class));
+        for(Predicate<?> predicate : condition.getConditions()){
+            generateTest(predicate,Predicate.class,Type.getType(Object.class),key);
+        }
+    }
+
+    private void generateIntKey(IntKeyCondition<?> condition){
+        int key = extract(condition.getKeyExtractor(),ToIntFunction.class,"applyAsInt",Type.INT_TYPE);
+        if(condition.getMin() != Integer.MIN_VALUE)
+            generateIntBound(key,condition.getMin(),IF_ICMPGE);
+        if(condition.getMax() != Integer.MAX_VALUE)
+            generateIntBound(key,condition.getMax(),IF_ICMPLE);
+        for(IntPredicate predicate : condition.getConditions()){
+            generateTest(predicate,IntPredicate.class,Type.INT_TYPE,key);
+        }
+    }
+
+    private void generateLongKey(LongKeyCondition<?> condition){
+        int key = extract(condition.getKeyExtractor(),ToLongFunction.class,"applyAsLong",Type.LONG_TYPE);
+        if(condition.getMin() != Long.MIN_VALUE)
+            generateBound(key,Type.LONG_TYPE,condition.getMin(),LCMP,IFGE);
+        if(condition.getMax() != Long.MAX_VALUE)
+            generateBound(key,Type.LONG_TYPE,condition.getMax(),LCMP,IFLE);
+        for(LongPredicate predicate : condition.getConditions()){
+            generateTest(predicate,LongPredicate.class,Type.LONG_TYPE,key);
+        }
+    }
+
+    private void generateDoubleKey(DoubleKeyCondition<?> condition){
+        int key = extract(condition.getKeyExtractor(),ToDoubleFunction.class,"applyAsDouble",Type.DOUBLE_TYPE);
+        if(condition.isBounded()){
+            // NaN fails both comparisons: DCMPL pushes -1 and DCMPG pushes 1 for it
+            generateBound(key,Type.DOUBLE_TYPE,condition.getMin(),DCMPL,IFGE);
+            generateBound(key,Type.DOUBLE_TYPE,condition.getMax(),DCMPG,IFLE);
+        }
+        for(DoublePredicate predicate : condition.getConditions()){
+            generateTest(predicate,DoublePredicate.class,Type.DOUBLE_TYPE,key);
+        }
+    }
+
+    /**
+     * calls the key extractor on the validated object and stores the key in a new local variable
+     * @return the index of the local variable
+     */
+    private int extract(Object keyExtractor, Class<?> type, String method, Type keyType){
+        loadValue(keyExtractor,type);
+        validate.visitVarInsn(ALOAD,1);
+        validate.visitMethodInsn(INVOKEINTERFACE,Type.getInternalName(type),method,"(" + OBJECT + ")" + keyType.getDescriptor(),true);
+        int local = nextLocal;
+        nextLocal += keyType.getSize();
+        validate.visitVarInsn(keyType.getOpcode(ISTORE),local);
+        return local;
+    }
+
+    /**
+     * tests the predicate with the local variable and returns false if it fails
+     */
+    private void generateTest(Object predicate, Class<?> type, Type argumentType, int local){
+        loadValue(predicate,type);
+        validate.visitVarInsn(argumentType.getOpcode(ILOAD),local);
+        validate.visitMethodInsn(INVOKEINTERFACE,Type.getInternalName(type),"test","(" + argumentType.getDescriptor() + ")Z",true);
+        returnFalseUnless(IFNE);
+    }
+
+    private void generateIntBound(int local, int bound, int passOpcode){
+        validate.visitVarInsn(ILOAD,local);
+        validate.visitLdcInsn(bound);
+        returnFalseUnless(passOpcode);
+    }
+
+    private void generateBound(int local, Type keyType, Object bound, int compareOpcode, int passOpcode){
+        validate.visitVarInsn(keyType.getOpcode(ILOAD),local);
+        validate.visitLdcInsn(bound);
+        validate.visitInsn(compareOpcode);
+        returnFalseUnless(passOpcode);
+    }
+
+    private void returnFalseUnless(int passOpcode){
+        Label pass = new Label();
+        validate.visitJumpInsn(passOpcode,pass);
+        validate.visitInsn(ICONST_0);
+        validate.visitInsn(IRETURN);
+        validate.visitLabel(pass);
+    }
+
+    private void loadValue(Object value, Class<?> type){
+        int index = values.size();
+        values.add(value);
+        valueTypes.add(type);
+        validate.visitVarInsn(ALOAD,0);
+        validate.visitFieldInsn(GETFIELD,CLASS_NAME,field(index),Type.getDescriptor(type));
+    }
+
+    private static String field(int index){
+        return "value" + index;
+    }
+}
@@ -0,0 +1,21 @@
+package util.validator.builder.condition;
+
+import java.util.function.Predicate;
+
+/**
+ * A condition which blocks, e.g. for a lookup in another service.
+ * AsyncValidators evaluate these conditions concurrently, all other Validators like any other condition
+ * @param <T> the type of the object to validate
+ */
+public final class AsyncCondition<T> implements Predicate<T> {
+    private final Predicate<T> condition;
+
+    public AsyncCondition(Predicate<T> condition){
+        this.condition = condition;
+    }
+
+    @Override
+    public boolean test(T t) {
+        return condition.test(t);
+    }
+}
@@ -0,0 +1,74 @@
+package util.validator.builder.condition;
+
+import util.validator.ValidationResult;
+
+import java.util.function.DoublePredicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * All conditions of one double key, compiled into one condition which extracts the key only once.
+ * If the key is bounded, the bounds are folded into the inclusive interval [min,max], which never contains NaN
+ * @param <T> the type of the object to validate
+ */
+public final class DoubleKeyCondition<T> implements KeyCondition<T> {
+    private final ToDoubleFunction<T> keyExtractor;
+    private final boolean bounded;
+    private final double min;
+    private final double max;
+    private final DoublePredicate[] conditions;
+
+    public DoubleKeyCondition(ToDoubleFunction<T> keyExtractor, boolean bounded, double min, double max, DoublePredicate[] conditions){
+        this.keyExtractor = keyExtractor;
+        this.bounded = bounded;
+        this.min = min;
+        this.max = max;
+        this.conditions = conditions.clone();
+    }
+
+    @Override
+    public boolean test(T t) {
+        double x = keyExtractor.applyAsDouble(t);
+        if(bounded && !(x >= min && x <= max))
+            return false;
+        for(DoublePredicate condition : conditions){
+            if(!condition.test(x))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public ValidationResult check(T t, int keyIndex) {
+        double x = keyExtractor.applyAsDouble(t);
+        if(bounded && !(x >= min && x <= max))
+            return ValidationResult.invalid(keyIndex,ValidationResult.BOUNDS,x);
+        for(int i = 0; i < conditions.length; i++){
+            if(!conditions[i].test(x))
+                return ValidationResult.invalid(keyIndex,i,x);
+        }
+        return ValidationResult.valid();
+    }
+
+    public ToDoubleFunction<T> getKeyExtractor(){
+        return keyExtractor;
+    }
+
+    /**
+     * @return if the key has to be within [min,max]
+     */
+    public boolean isBounded(){
+        return bounded;
+    }
+
+    public double getMin(){
+        return min;
+    }
+
+    public double getMax(){
+        return max;
+    }
+
+    public DoublePredicate[] getConditions(){
+        return conditions.clone();
+    }
+}
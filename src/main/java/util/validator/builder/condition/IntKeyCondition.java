@@ -0,0 +1,72 @@
+package util.validator.builder.condition;
+
+import util.validator.ValidationResult;
+
+import java.util.function.IntPredicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * All conditions of one int key, compiled into one condition which extracts the key only once.
+ * The bounds of the key are folded into the inclusive interval [min,max]
+ * @param <T> the type of the object to validate
+ */
+public final class IntKeyCondition<T> implements KeyCondition<T> {
+    private final ToIntFunction<T> keyExtractor;
+    private final int min;
+    private final int max;
+    private final IntPredicate[] conditions;
+
+    public IntKeyCondition(ToIntFunction<T> keyExtractor, int min, int max, IntPredicate[] conditions){
+        this.keyExtractor = keyExtractor;
+        this.min = min;
+        this.max = max;
+        this.conditions = conditions.clone();
+    }
+
+    @Override
+    public boolean test(T t) {
+        int x = keyExtractor.applyAsInt(t);
+        if(x < min || x > max)
+            return false;
+        for(IntPredicate condition : conditions){
+            if(!condition.test(x))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public ValidationResult check(T t, int keyIndex) {
+        int x = keyExtractor.applyAsInt(t);
+        if(x < min || x > max)
+            return ValidationResult.invalid(keyIndex,ValidationResult.BOUNDS,x);
+        for(int i = 0; i < conditions.length; i++){
+            if(!conditions[i].test(x))
+                return ValidationResult.invalid(keyIndex,i,x);
+        }
+        return ValidationResult.valid();
+    }
+
+    public ToIntFunction<T> getKeyExtractor(){
+        return keyExtractor;
+    }
+
+    public int getMin(){
+        return min;
+    }
+
+    public int getMax(){
+        return max;
+    }
+
+    /**
+     * @return if the interval is narrower than all int values
+     */
+    public boolean isBounded(){
+        return min != Integer.MIN_VALUE || max != Integer.MAX_VALUE;
+    }
+
+    public IntPredicate[] getConditions(){
+        return conditions.clone();
+    }
+}
@@ -0,0 +1,20 @@
+package util.validator.builder.condition;
+
+import util.validator.ValidationResult;
+
+import java.util.function.Predicate;
+
+/**
+ * All conditions of one key, which can also describe which of them failed
+ * @param <T> the type of the object to validate
+ */
+public interface KeyCondition<T> extends Predicate<T> {
+
+    /**
+     * tests the conditions like test(), but returns which condition failed
+     * @param t the object to validate
+     * @param keyIndex the index of this key in the validator
+     * @return ValidationResult.valid() if all conditions are met, otherwise the first failed condition and the key
+     */
+    ValidationResult check(T t, int keyIndex);
+}
@@ -0,0 +1,72 @@
+package util.validator.builder.condition;
+
+import util.validator.ValidationResult;
+
+import java.util.function.LongPredicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * All conditions of one long key, compiled into one condition which extracts the key only once.
+ * The bounds of the key are folded into the inclusive interval [min,max]
+ * @param <T> the type of the object to validate
+ */
+public final class LongKeyCondition<T> implements KeyCondition<T> {
+    private final ToLongFunction<T> keyExtractor;
+    private final long min;
+    private final long max;
+    private final LongPredicate[] conditions;
+
+    public LongKeyCondition(ToLongFunction<T> keyExtractor, long min, long max, LongPredicate[] conditions){
+        this.keyExtractor = keyExtractor;
+        this.min = min;
+        this.max = max;
+        this.conditions = conditions.clone();
+    }
+
+    @Override
+    public boolean test(T t) {
+        long x = keyExtractor.applyAsLong(t);
+        if(x < min || x > max)
+            return false;
+        for(LongPredicate condition : conditions){
+            if(!condition.test(x))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public ValidationResult check(T t, int keyIndex) {
+        long x = keyExtractor.applyAsLong(t);
+        if(x < min || x > max)
+            return ValidationResult.invalid(keyIndex,ValidationResult.BOUNDS,x);
+        for(int i = 0; i < conditions.length; i++){
+            if(!conditions[i].test(x))
+                return ValidationResult.invalid(keyIndex,i,x);
+        }
+        return ValidationResult.valid();
+    }
+
+    public ToLongFunction<T> getKeyExtractor(){
+        return keyExtractor;
+    }
+
+    public long getMin(){
+        return min;
+    }
+
+    public long getMax(){
+        return max;
+    }
+
+    /**
+     * @return if the interval is narrower than all long values
+     */
+    public boolean isBounded(){
+        return min != Long.MIN_VALUE || max != Long.MAX_VALUE;
+    }
+
+    public LongPredicate[] getConditions(){
+        return conditions.clone();
+    }
+}
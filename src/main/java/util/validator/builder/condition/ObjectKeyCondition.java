@@ -0,0 +1,49 @@
+package util.validator.builder.condition;
+
+import util.validator.ValidationResult;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * All conditions of one key, compiled into one condition which extracts the key only once
+ * @param <T> the type of the object to validate
+ * @param <R> the type of the key
+ */
+public final class ObjectKeyCondition<T,R> implements KeyCondition<T> {
+    private final Function<T,R> keyExtractor;
+    private final Predicate<R>[] conditions;
+
+    public ObjectKeyCondition(Function<T,R> keyExtractor, Predicate<R>[] conditions){
+        this.keyExtractor = keyExtractor;
+        this.conditions = conditions.clone();
+    }
+
+    @Override
+    public boolean test(T t) {
+        R key = keyExtractor.apply(t);
+        for(Predicate<R> condition : conditions){
+            if(!condition.test(key))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public ValidationResult check(T t, int keyIndex) {
+        R key = keyExtractor.apply(t);
+        for(int i = 0; i < conditions.length; i++){
+            if(!conditions[i].test(key))
+                return ValidationResult.invalid(keyIndex,i,key);
+        }
+        return ValidationResult.valid();
+    }
+
+    public Function<T,R> getKeyExtractor(){
+        return keyExtractor;
+    }
+
+    public Predicate<R>[] getConditions(){
+        return conditions.clone();
+    }
+}
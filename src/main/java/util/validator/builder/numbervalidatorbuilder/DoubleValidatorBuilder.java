@@ -1,4 +1,34 @@
 package util.validator.builder.numbervalidatorbuilder;
 
-public interface DoubleValidatorBuilder<T> extends NumberValidatorBuilder<T,Double>{
+import util.validator.builder.numbervalidatorbuilder.implementations.DoubleValidatorBuilderImpl;
+import util.validator.column.DoubleColumnValidator;
+
+import java.util.function.DoublePredicate;
+
+public interface DoubleValidatorBuilder<T> extends NumberValidatorBuilder<T,Double> {
+
+    /**
+     * Returns a builder for a column of double keys, whose conditions are compiled with buildColumn()
+     * @return the new ValidatorBuilder
+     */
+    static DoubleValidatorBuilder<Double> forColumn(){
+        return new DoubleValidatorBuilderImpl<>(Double::doubleValue);
+    }
+
+    /**
+     * adds a condition on the unboxed key to the validator
+     *
+     * @param isValid the condition
+     * @return an instance with this condition added
+     */
+    DoubleValidatorBuilder<T> validatingDouble(DoublePredicate isValid);
+
+    /**
+     * Builds a validator for whole columns of double keys, which never creates an object to validate.
+     * Only possible if no other key has conditions and no condition was added with validatingAsync()
+     *
+     * @return a build ColumnValidator
+     * @throws IllegalStateException if another key has conditions or a condition blocks
+     */
+    DoubleColumnValidator buildColumn();
 }
@@ -1,4 +1,34 @@
 package util.validator.builder.numbervalidatorbuilder;
 
+import util.validator.builder.numbervalidatorbuilder.implementations.IntValidatorBuilderImpl;
+import util.validator.column.IntColumnValidator;
+
+import java.util.function.IntPredicate;
+
 public interface IntValidatorBuilder<T> extends NumberValidatorBuilder<T,Integer> {
+
+    /**
+     * Returns a builder for a column of int keys, whose conditions are compiled with buildColumn()
+     * @return the new ValidatorBuilder
+     */
+    static IntValidatorBuilder<Integer> forColumn(){
+        return new IntValidatorBuilderImpl<>(Integer::intValue);
+    }
+
+    /**
+     * adds a condition on the unboxed key to the validator
+     *
+     * @param isValid the condition
+     * @return an instance with this condition added
+     */
+    IntValidatorBuilder<T> validatingInt(IntPredicate isValid);
+
+    /**
+     * Builds a validator for whole columns of int keys, which never creates an object to validate.
+     * Only possible if no other key has conditions and no condition was added with validatingAsync()
+     *
+     * @return a build ColumnValidator
+     * @throws IllegalStateException if another key has conditions or a condition blocks
+     */
+    IntColumnValidator buildColumn();
 }
@@ -1,6 +1,34 @@
 package util.validator.builder.numbervalidatorbuilder;
 
+import util.validator.builder.numbervalidatorbuilder.implementations.LongValidatorBuilderImpl;
+import util.validator.column.LongColumnValidator;
+
+import java.util.function.LongPredicate;
+
 public interface LongValidatorBuilder<T> extends NumberValidatorBuilder<T,Long> {
 
+    /**
+     * Returns a builder for a column of long keys, whose conditions are compiled with buildColumn()
+     * @return the new ValidatorBuilder
+     */
+    static LongValidatorBuilder<Long> forColumn(){
+        return new LongValidatorBuilderImpl<>(Long::longValue);
+    }
+
+    /**
+     * adds a condition on the unboxed key to the validator
+     *
+     * @param isValid the condition
+     * @return an instance with this condition added
+     */
+    LongValidatorBuilder<T> validatingLong(LongPredicate isValid);
 
+    /**
+     * Builds a validator for whole columns of long keys, which never creates an object to validate.
+     * Only possible if no other key has conditions and no condition was added with validatingAsync()
+     *
+     * @return a build ColumnValidator
+     * @throws IllegalStateException if another key has conditions or a condition blocks
+     */
+    LongColumnValidator buildColumn();
 }
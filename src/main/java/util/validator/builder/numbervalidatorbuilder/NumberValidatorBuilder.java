@@ -15,6 +15,15 @@ public interface NumberValidatorBuilder<T,R extends Number> extends ValidatorBui
     @Override
     NumberValidatorBuilder<T, R> validating(Predicate<R> isValid);
 
+    /**
+     * adds a condition which blocks, e.g. for a lookup in another service
+     *
+     * @param isValid the condition
+     * @return an instance with this condition added
+     */
+    @Override
+    NumberValidatorBuilder<T, R> validatingAsync(Predicate<R> isValid);
+
     /**
      * checks if the Value is within normal range of the given values
      * this function is true , when x = the extracted key
@@ -109,7 +118,7 @@ public interface NumberValidatorBuilder<T,R extends Number> extends ValidatorBui
      * checks if the extracted key is negative. 0 is not counted as negative
      * this function is true , when x = the extracted key
      * <p>
-     * x > 0
+     * x < 0
      *
      * @return an instance with this condition added
      */
@@ -120,6 +129,8 @@ public interface NumberValidatorBuilder<T,R extends Number> extends ValidatorBui
      * this function is true , when x = the extracted key
      * <p>
      * x == value
+     * <p>
+     * the extracted key is never equal to null
      *
      * @param value the value to be compared to the extracted key
      * @return an instance with this condition added
@@ -1,29 +1,34 @@
 package util.validator.builder.numbervalidatorbuilder.implementations;
 
+import util.validator.AsyncValidator;
 import util.validator.Validator;
-import util.validator.builder.PredicateHolder;
+import util.validator.builder.DoublePredicateHolder;
 import util.validator.builder.SimpleValidatorBuilder;
 import util.validator.builder.ValidatorBuilder;
+import util.validator.builder.codegen.ValidatorGenerator;
 import util.validator.builder.numbervalidatorbuilder.DoubleValidatorBuilder;
 import util.validator.builder.numbervalidatorbuilder.IntValidatorBuilder;
 import util.validator.builder.numbervalidatorbuilder.LongValidatorBuilder;
 import util.validator.builder.numbervalidatorbuilder.NumberValidatorBuilder;
-import util.validator.implementations.AbstractValidator;
+import util.validator.column.DoubleColumnValidator;
+import util.validator.implementations.AdaptiveValidator;
+import util.validator.implementations.CompiledAsyncValidator;
+import util.validator.implementations.CompiledValidator;
+import util.validator.implementations.InstrumentedValidator;
 
-import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.*;
 
 public class DoubleValidatorBuilderImpl<T> implements DoubleValidatorBuilder<T> {
-    private final PredicateHolder<T,Double> predicateHolder;
+    private final DoublePredicateHolder<T> predicateHolder;
 
 
     public DoubleValidatorBuilderImpl(ToDoubleFunction<T> keyExtractor){
-        this.predicateHolder = new PredicateHolder<>(keyExtractor::applyAsDouble);
+        this.predicateHolder = new DoublePredicateHolder<>(keyExtractor);
     }
 
-    public DoubleValidatorBuilderImpl(ValidatorBuilder<T,?> validatorBuilder, ToDoubleFunction<T> keyExtractor){
-        this.predicateHolder = new PredicateHolder<>(keyExtractor::applyAsDouble);
-        this.predicateHolder.addExtractedCondition(n -> validatorBuilder.build().validate(n));
+    public DoubleValidatorBuilderImpl(DoublePredicateHolder<T> predicateHolder){
+        this.predicateHolder = predicateHolder;
     }
 
     /**
@@ -34,23 +39,22 @@ public class DoubleValidatorBuilderImpl<T> implements DoubleValidatorBuilder<T>
      */
     @Override
     public <NEW_R> ValidatorBuilder<T, NEW_R> key(Function<T, NEW_R> keyExtractor) {
-        predicateHolder.key(keyExtractor);
-        return new SimpleValidatorBuilder<>(this,keyExtractor);
+        return new SimpleValidatorBuilder<>(predicateHolder.key(keyExtractor));
     }
 
     @Override
     public DoubleValidatorBuilder<T> doubleKey(ToDoubleFunction<T> keyExtractor) {
-        return new DoubleValidatorBuilderImpl<>(this,keyExtractor);
+        return new DoubleValidatorBuilderImpl<>(predicateHolder.doubleKey(keyExtractor));
     }
 
     @Override
     public IntValidatorBuilder<T> intKey(ToIntFunction<T> keyExtractor) {
-        return new IntValidatorBuilderImpl<>(this,keyExtractor);
+        return new IntValidatorBuilderImpl<>(predicateHolder.intKey(keyExtractor));
     }
 
     @Override
     public LongValidatorBuilder<T> longKey(ToLongFunction<T> keyExtractor) {
-        return new LongValidatorBuilderImpl<>(this,keyExtractor);
+        return new LongValidatorBuilderImpl<>(predicateHolder.longKey(keyExtractor));
     }
 
     /**
@@ -60,12 +64,77 @@ public class DoubleValidatorBuilderImpl<T> implements DoubleValidatorBuilder<T>
      */
     @Override
     public Validator<T> build() {
-        return new AbstractValidator<>() {
-            @Override
-            public boolean validate(T toValidate) {
-                return predicateHolder.test(toValidate);
-            }
-        };
+        return new CompiledValidator<>(predicateHolder.compile());
+    }
+
+    /**
+     * Builds a Validator which reorders its conditions at runtime,
+     * so that cheap conditions which often fail are tested first.
+     * Only use this if the conditions don't depend on each other
+     *
+     * @return a build Validator
+     */
+    @Override
+    public Validator<T> buildAdaptive() {
+        return new AdaptiveValidator<>(predicateHolder.compile());
+    }
+
+    /**
+     * Builds a Validator whose validate() method is generated at runtime as a hidden class,
+     * which tests all conditions in one straight line of code.
+     * Needs org.ow2.asm:asm on the classpath
+     *
+     * @return a build Validator
+     */
+    @Override
+    public Validator<T> buildGenerated() {
+        return ValidatorGenerator.generate(predicateHolder.compile());
+    }
+
+    /**
+     * Builds a Validator which records how often every condition is evaluated,
+     * how often it fails and how long it takes.
+     * The other build methods create Validators without any instrumentation
+     *
+     * @return a build Validator
+     */
+    @Override
+    public InstrumentedValidator<T> buildInstrumented() {
+        return new InstrumentedValidator<>(predicateHolder.compile());
+    }
+
+    /**
+     * Builds a Validator which evaluates the conditions added with validatingAsync() concurrently,
+     * on virtual threads if the runtime has them, otherwise on a shared pool of daemon threads
+     *
+     * @return a build Validator
+     */
+    @Override
+    public AsyncValidator<T> buildAsync() {
+        return new CompiledAsyncValidator<>(predicateHolder.compile());
+    }
+
+    /**
+     * Builds a Validator which evaluates the conditions added with validatingAsync() concurrently on the executor
+     *
+     * @param executor the executor to evaluate the conditions on
+     * @return a build Validator
+     */
+    @Override
+    public AsyncValidator<T> buildAsync(Executor executor) {
+        return new CompiledAsyncValidator<>(predicateHolder.compile(),executor);
+    }
+
+    /**
+     * Builds a validator for whole columns of double keys, which never creates an object to validate.
+     * Only possible if no other key has conditions and no condition was added with validatingAsync()
+     *
+     * @return a build ColumnValidator
+     * @throws IllegalStateException if another key has conditions or a condition blocks
+     */
+    @Override
+    public DoubleColumnValidator buildColumn() {
+        return predicateHolder.compileColumn();
     }
 
     /**
@@ -76,6 +145,30 @@ public class DoubleValidatorBuilderImpl<T> implements DoubleValidatorBuilder<T>
      */
     @Override
     public NumberValidatorBuilder<T, Double> validating(Predicate<Double> isValid) {
+        this.predicateHolder.addCondition(isValid::test);
+        return this;
+    }
+
+    /**
+     * adds a condition which blocks, e.g. for a lookup in another service
+     *
+     * @param isValid the condition
+     * @return an instance with this condition added
+     */
+    @Override
+    public NumberValidatorBuilder<T, Double> validatingAsync(Predicate<Double> isValid) {
+        this.predicateHolder.addAsyncCondition(isValid::test);
+        return this;
+    }
+
+    /**
+     * adds a condition on the unboxed key to the validator
+     *
+     * @param isValid the condition
+     * @return an instance with this condition added
+     */
+    @Override
+    public DoubleValidatorBuilder<T> validatingDouble(DoublePredicate isValid) {
         this.predicateHolder.addCondition(isValid);
         return this;
     }
@@ -92,7 +185,8 @@ public class DoubleValidatorBuilderImpl<T> implements DoubleValidatorBuilder<T>
      */
     @Override
     public NumberValidatorBuilder<T, Double> inRange(Double min, Double max) {
-        this.predicateHolder.addCondition(x -> min <= x && max < x);
+        this.predicateHolder.addLowerBound(min,true);
+        this.predicateHolder.addUpperBound(max,false);
         return this;
     }
 
@@ -108,7 +202,8 @@ public class DoubleValidatorBuilderImpl<T> implements DoubleValidatorBuilder<T>
      */
     @Override
     public NumberValidatorBuilder<T, Double> inRangeExclusive(Double min, Double max) {
-        this.predicateHolder.addCondition(x -> min < x && max < x);
+        this.predicateHolder.addLowerBound(min,false);
+        this.predicateHolder.addUpperBound(max,false);
         return this;
     }
 
@@ -124,7 +219,8 @@ public class DoubleValidatorBuilderImpl<T> implements DoubleValidatorBuilder<T>
      */
     @Override
     public NumberValidatorBuilder<T, Double> inRangeInclusive(Double min, Double max) {
-        this.predicateHolder.addCondition(x -> min <= x && max <= x);
+        this.predicateHolder.addLowerBound(min,true);
+        this.predicateHolder.addUpperBound(max,true);
         return this;
     }
 
@@ -132,14 +228,14 @@ public class DoubleValidatorBuilderImpl<T> implements DoubleValidatorBuilder<T>
      * checks if the extracted key is bigger than the value
      * this function is true , when x = the extracted key
      * <p>
-     * value > x
+     * value < x
      *
      * @param value the lower bound
      * @return an instance with this condition added
      */
     @Override
     public NumberValidatorBuilder<T, Double> greaterThan(Double value) {
-        this.predicateHolder.addCondition(x -> value > x);
+        this.predicateHolder.addLowerBound(value,false);
         return this;
     }
 
@@ -154,7 +250,7 @@ public class DoubleValidatorBuilderImpl<T> implements DoubleValidatorBuilder<T>
      */
     @Override
     public NumberValidatorBuilder<T, Double> greaterOrEqualThan(Double value) {
-        this.predicateHolder.addCondition(x -> value <= x);
+        this.predicateHolder.addLowerBound(value,true);
         return this;
     }
 
@@ -169,7 +265,7 @@ public class DoubleValidatorBuilderImpl<T> implements DoubleValidatorBuilder<T>
      */
     @Override
     public NumberValidatorBuilder<T, Double> lesserThan(Double value) {
-        this.predicateHolder.addCondition(x -> value > x);
+        this.predicateHolder.addUpperBound(value,false);
         return this;
     }
 
@@ -184,7 +280,7 @@ public class DoubleValidatorBuilderImpl<T> implements DoubleValidatorBuilder<T>
      */
     @Override
     public NumberValidatorBuilder<T, Double> lesserOrEqualThan(Double value) {
-        this.predicateHolder.addCondition(x -> value >= x);
+        this.predicateHolder.addUpperBound(value,true);
         return this;
     }
 
@@ -205,13 +301,13 @@ public class DoubleValidatorBuilderImpl<T> implements DoubleValidatorBuilder<T>
      * checks if the extracted key is negative. 0 is not counted as negative
      * this function is true , when x = the extracted key
      * <p>
-     * x > 0
+     * x < 0
      *
      * @return an instance with this condition added
      */
     @Override
     public NumberValidatorBuilder<T, Double> negative() {
-        return this.lesserOrEqualThan(0.0);
+        return this.lesserThan(0.0);
     }
 
     /**
@@ -219,13 +315,27 @@ public class DoubleValidatorBuilderImpl<T> implements DoubleValidatorBuilder<T>
      * this function is true , when x = the extracted key
      * <p>
      * x == value
+     * <p>
+     * the extracted key is never equal to null.
+     * Like Double.equals() NaN is equal to NaN and 0.0 isn't equal to -0.0
      *
      * @param value the value to be compared to the extracted key
      * @return an instance with this condition added
      */
     @Override
     public NumberValidatorBuilder<T, Double> equal(Double value) {
-        this.predicateHolder.addCondition(x -> Objects.equals(value, x));
+        if(value == null){
+            this.predicateHolder.addCondition(x -> false);
+            return this;
+        }
+        double v = value;
+        if(Double.isNaN(v) || v == 0.0){
+            // an interval can't tell NaN or the sign of zero apart
+            this.predicateHolder.addCondition(x -> Double.compare(x,v) == 0);
+            return this;
+        }
+        this.predicateHolder.addLowerBound(v,true);
+        this.predicateHolder.addUpperBound(v,true);
         return this;
     }
 
@@ -233,6 +343,8 @@ public class DoubleValidatorBuilderImpl<T> implements DoubleValidatorBuilder<T>
      * checks if the extracted key is 0
      * this function is true , when x = the extracted key
      * x == 0
+     * <p>
+     * -0.0 isn't 0
      *
      * @return an instance with this condition added
      */
@@ -1,31 +1,36 @@
 package util.validator.builder.numbervalidatorbuilder.implementations;
 
+import util.validator.AsyncValidator;
 import util.validator.Validator;
-import util.validator.builder.PredicateHolder;
+import util.validator.builder.IntPredicateHolder;
 import util.validator.builder.SimpleValidatorBuilder;
 import util.validator.builder.ValidatorBuilder;
+import util.validator.builder.codegen.ValidatorGenerator;
 import util.validator.builder.numbervalidatorbuilder.DoubleValidatorBuilder;
 import util.validator.builder.numbervalidatorbuilder.IntValidatorBuilder;
 
 import util.validator.builder.numbervalidatorbuilder.LongValidatorBuilder;
 import util.validator.builder.numbervalidatorbuilder.NumberValidatorBuilder;
-import util.validator.implementations.AbstractValidator;
+import util.validator.column.IntColumnValidator;
+import util.validator.implementations.AdaptiveValidator;
+import util.validator.implementations.CompiledAsyncValidator;
+import util.validator.implementations.CompiledValidator;
+import util.validator.implementations.InstrumentedValidator;
 
-import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.*;
 
 
 public class IntValidatorBuilderImpl<T> implements IntValidatorBuilder<T> {
-    private final PredicateHolder<T,Integer> predicateHolder;
+    private final IntPredicateHolder<T> predicateHolder;
 
 
     public IntValidatorBuilderImpl(ToIntFunction<T> keyExtractor){
-        this.predicateHolder = new PredicateHolder<>(keyExtractor::applyAsInt);
+        this.predicateHolder = new IntPredicateHolder<>(keyExtractor);
     }
 
-    public IntValidatorBuilderImpl(ValidatorBuilder<T,?> validatorBuilder, ToIntFunction<T> keyExtractor){
-        this.predicateHolder = new PredicateHolder<>(keyExtractor::applyAsInt);
-        this.predicateHolder.addExtractedCondition(n -> validatorBuilder.build().validate(n));
+    public IntValidatorBuilderImpl(IntPredicateHolder<T> predicateHolder){
+        this.predicateHolder = predicateHolder;
     }
 
     /**
@@ -36,23 +41,22 @@ public class IntValidatorBuilderImpl<T> implements IntValidatorBuilder<T> {
      */
     @Override
     public <NEW_R> ValidatorBuilder<T, NEW_R> key(Function<T, NEW_R> keyExtractor) {
-        predicateHolder.key(keyExtractor);
-        return new SimpleValidatorBuilder<>(this,keyExtractor);
+        return new SimpleValidatorBuilder<>(predicateHolder.key(keyExtractor));
     }
 
     @Override
     public DoubleValidatorBuilder<T> doubleKey(ToDoubleFunction<T> keyExtractor) {
-        return new DoubleValidatorBuilderImpl<>(this,keyExtractor);
+        return new DoubleValidatorBuilderImpl<>(predicateHolder.doubleKey(keyExtractor));
     }
 
     @Override
     public IntValidatorBuilder<T> intKey(ToIntFunction<T> keyExtractor) {
-        return new IntValidatorBuilderImpl<>(this,keyExtractor);
+        return new IntValidatorBuilderImpl<>(predicateHolder.intKey(keyExtractor));
     }
 
     @Override
     public LongValidatorBuilder<T> longKey(ToLongFunction<T> keyExtractor) {
-        return new LongValidatorBuilderImpl<>(this,keyExtractor);
+        return new LongValidatorBuilderImpl<>(predicateHolder.longKey(keyExtractor));
     }
 
     /**
@@ -62,12 +66,77 @@ public class IntValidatorBuilderImpl<T> implements IntValidatorBuilder<T> {
      */
     @Override
     public Validator<T> build() {
-        return new AbstractValidator<>() {
-            @Override
-            public boolean validate(T toValidate) {
-                return predicateHolder.test(toValidate);
-            }
-        };
+        return new CompiledValidator<>(predicateHolder.compile());
+    }
+
+    /**
+     * Builds a Validator which reorders its conditions at runtime,
+     * so that cheap conditions which often fail are tested first.
+     * Only use this if the conditions don't depend on each other
+     *
+     * @return a build Validator
+     */
+    @Override
+    public Validator<T> buildAdaptive() {
+        return new AdaptiveValidator<>(predicateHolder.compile());
+    }
+
+    /**
+     * Builds a Validator whose validate() method is generated at runtime as a hidden class,
+     * which tests all conditions in one straight line of code.
+     * Needs org.ow2.asm:asm on the classpath
+     *
+     * @return a build Validator
+     */
+    @Override
+    public Validator<T> buildGenerated() {
+        return ValidatorGenerator.generate(predicateHolder.compile());
+    }
+
+    /**
+     * Builds a Validator which records how often every condition is evaluated,
+     * how often it fails and how long it takes.
+     * The other build methods create Validators without any instrumentation
+     *
+     * @return a build Validator
+     */
+    @Override
+    public InstrumentedValidator<T> buildInstrumented() {
+        return new InstrumentedValidator<>(predicateHolder.compile());
+    }
+
+    /**
+     * Builds a Validator which evaluates the conditions added with validatingAsync() concurrently,
+     * on virtual threads if the runtime has them, otherwise on a shared pool of daemon threads
+     *
+     * @return a build Validator
+     */
+    @Override
+    public AsyncValidator<T> buildAsync() {
+        return new CompiledAsyncValidator<>(predicateHolder.compile());
+    }
+
+    /**
+     * Builds a Validator which evaluates the conditions added with validatingAsync() concurrently on the executor
+     *
+     * @param executor the executor to evaluate the conditions on
+     * @return a build Validator
+     */
+    @Override
+    public AsyncValidator<T> buildAsync(Executor executor) {
+        return new CompiledAsyncValidator<>(predicateHolder.compile(),executor);
+    }
+
+    /**
+     * Builds a validator for whole columns of int keys, which never creates an object to validate.
+     * Only possible if no other key has conditions and no condition was added with validatingAsync()
+     *
+     * @return a build ColumnValidator
+     * @throws IllegalStateException if another key has conditions or a condition blocks
+     */
+    @Override
+    public IntColumnValidator buildColumn() {
+        return predicateHolder.compileColumn();
     }
 
     /**
@@ -78,6 +147,30 @@ public class IntValidatorBuilderImpl<T> implements IntValidatorBuilder<T> {
      */
     @Override
     public NumberValidatorBuilder<T, Integer> validating(Predicate<Integer> isValid) {
+        this.predicateHolder.addCondition(isValid::test);
+        return this;
+    }
+
+    /**
+     * adds a condition which blocks, e.g. for a lookup in another service
+     *
+     * @param isValid the condition
+     * @return an instance with this condition added
+     */
+    @Override
+    public NumberValidatorBuilder<T, Integer> validatingAsync(Predicate<Integer> isValid) {
+        this.predicateHolder.addAsyncCondition(isValid::test);
+        return this;
+    }
+
+    /**
+     * adds a condition on the unboxed key to the validator
+     *
+     * @param isValid the condition
+     * @return an instance with this condition added
+     */
+    @Override
+    public IntValidatorBuilder<T> validatingInt(IntPredicate isValid) {
         this.predicateHolder.addCondition(isValid);
         return this;
     }
@@ -94,7 +187,8 @@ public class IntValidatorBuilderImpl<T> implements IntValidatorBuilder<T> {
      */
     @Override
     public NumberValidatorBuilder<T, Integer> inRange(Integer min, Integer max) {
-        this.predicateHolder.addCondition(x -> min <= x && max < x);
+        this.predicateHolder.addLowerBound(min,true);
+        this.predicateHolder.addUpperBound(max,false);
         return this;
     }
 
@@ -110,7 +204,8 @@ public class IntValidatorBuilderImpl<T> implements IntValidatorBuilder<T> {
      */
     @Override
     public NumberValidatorBuilder<T, Integer> inRangeExclusive(Integer min, Integer max) {
-        this.predicateHolder.addCondition(x -> min < x && max < x);
+        this.predicateHolder.addLowerBound(min,false);
+        this.predicateHolder.addUpperBound(max,false);
         return this;
     }
 
@@ -126,7 +221,8 @@ public class IntValidatorBuilderImpl<T> implements IntValidatorBuilder<T> {
      */
     @Override
     public NumberValidatorBuilder<T, Integer> inRangeInclusive(Integer min, Integer max) {
-        this.predicateHolder.addCondition(x -> min <= x && max <= x);
+        this.predicateHolder.addLowerBound(min,true);
+        this.predicateHolder.addUpperBound(max,true);
         return this;
     }
 
@@ -134,14 +230,14 @@ public class IntValidatorBuilderImpl<T> implements IntValidatorBuilder<T> {
      * checks if the extracted key is bigger than the value
      * this function is true , when x = the extracted key
      * <p>
-     * value > x
+     * value < x
      *
      * @param value the lower bound
      * @return an instance with this condition added
      */
     @Override
     public NumberValidatorBuilder<T, Integer> greaterThan(Integer value) {
-        this.predicateHolder.addCondition(x -> value > x);
+        this.predicateHolder.addLowerBound(value,false);
         return this;
     }
 
@@ -156,7 +252,7 @@ public class IntValidatorBuilderImpl<T> implements IntValidatorBuilder<T> {
      */
     @Override
     public NumberValidatorBuilder<T, Integer> greaterOrEqualThan(Integer value) {
-        this.predicateHolder.addCondition(x -> value <= x);
+        this.predicateHolder.addLowerBound(value,true);
         return this;
     }
 
@@ -171,7 +267,7 @@ public class IntValidatorBuilderImpl<T> implements IntValidatorBuilder<T> {
      */
     @Override
     public NumberValidatorBuilder<T, Integer> lesserThan(Integer value) {
-        this.predicateHolder.addCondition(x -> value > x);
+        this.predicateHolder.addUpperBound(value,false);
         return this;
     }
 
@@ -186,7 +282,7 @@ public class IntValidatorBuilderImpl<T> implements IntValidatorBuilder<T> {
      */
     @Override
     public NumberValidatorBuilder<T, Integer> lesserOrEqualThan(Integer value) {
-        this.predicateHolder.addCondition(x -> value >= x);
+        this.predicateHolder.addUpperBound(value,true);
         return this;
     }
 
@@ -207,13 +303,13 @@ public class IntValidatorBuilderImpl<T> implements IntValidatorBuilder<T> {
      * checks if the extracted key is negative. 0 is not counted as negative
      * this function is true , when x = the extracted key
      * <p>
-     * x > 0
+     * x < 0
      *
      * @return an instance with this condition added
      */
     @Override
     public NumberValidatorBuilder<T, Integer> negative() {
-        return this.lesserOrEqualThan(0);
+        return this.lesserThan(0);
     }
 
     /**
@@ -221,13 +317,20 @@ public class IntValidatorBuilderImpl<T> implements IntValidatorBuilder<T> {
      * this function is true , when x = the extracted key
      * <p>
      * x == value
+     * <p>
+     * the extracted key is never equal to null
      *
      * @param value the value to be compared to the extracted key
      * @return an instance with this condition added
      */
     @Override
     public NumberValidatorBuilder<T, Integer> equal(Integer value) {
-        this.predicateHolder.addCondition(x -> Objects.equals(value, x));
+        if(value == null){
+            this.predicateHolder.addCondition(x -> false);
+            return this;
+        }
+        this.predicateHolder.addLowerBound(value,true);
+        this.predicateHolder.addUpperBound(value,true);
         return this;
     }
 
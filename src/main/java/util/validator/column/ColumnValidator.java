@@ -0,0 +1,108 @@
+package util.validator.column;
+
+import util.validator.ValidityMask;
+
+import java.nio.Buffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Validates a column of primitive keys, e.g. a direct buffer filled by a columnar file format.
+ * The elements between position and limit of the buffer are validated, element i of that range is bit i of the mask.
+ * No object is created per element
+ * @param <B> the type of the column
+ */
+public abstract class ColumnValidator<B extends Buffer> {
+    /** words of 64 elements a task of the parallel validation validates at least */
+    private static final int MIN_WORDS_PER_TASK = 1 << 10;
+
+    /**
+     * returns the number of words a bitmap for the column needs
+     * @param column the column
+     * @return the number of words
+     */
+    public static int wordsFor(Buffer column){
+        return (column.remaining() + 63) >>> 6;
+    }
+
+    /**
+     * validates every element of the column
+     * @param column the column to validate
+     * @return a mask with one bit per element, set if the element is valid
+     */
+    public ValidityMask validate(B column){
+        long[] words = new long[wordsFor(column)];
+        validateWords(column,words,0,words.length);
+        return new ValidityMask(words,column.remaining());
+    }
+
+    /**
+     * validates every element of the column into a bitmap owned by the caller,
+     * so the bitmap can be reused for every chunk of a bigger column
+     * @param column the column to validate
+     * @param words the bitmap, bit i of words[i >> 6] is set if the element i is valid.
+     *              Only the first wordsFor(column) words are written
+     * @throws IllegalArgumentException if the bitmap is too small
+     */
+    public void validate(B column, long[] words){
+        int wordCount = wordsFor(column);
+        if(words.length < wordCount)
+            throw new IllegalArgumentException("the bitmap has " + words.length + " words, the column needs " + wordCount);
+        validateWords(column,words,0,wordCount);
+    }
+
+    /**
+     * validates every element of the column, split into blocks of whole words on the pool
+     * @param column the column to validate
+     * @param pool the pool to validate the blocks on
+     * @return a mask with one bit per element, set if the element is valid
+     */
+    public ValidityMask validate(B column, ForkJoinPool pool){
+        long[] words = new long[wordsFor(column)];
+        pool.invoke(new ValidateTask(column,words,0,words.length));
+        return new ValidityMask(words,column.remaining());
+    }
+
+    private void validateWords(B column, long[] words, int fromWord, int toWord){
+        int size = column.remaining();
+        int position = column.position();
+        for(int w = fromWord; w < toWord; w++){
+            int from = w << 6;
+            words[w] = validateWord(column,position + from,Math.min(64,size - from));
+        }
+    }
+
+    /**
+     * validates up to 64 consecutive elements
+     * @param column the column
+     * @param from the absolute index of the first element
+     * @param count the number of elements, at most 64
+     * @return the word with bit j set if the element from + j is valid
+     */
+    protected abstract long validateWord(B column, int from, int count);
+
+    private final class ValidateTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final B column;
+        private final long[] words;
+        private final int fromWord;
+        private final int toWord;
+
+        ValidateTask(B column, long[] words, int fromWord, int toWord){
+            this.column = column;
+            this.words = words;
+            this.fromWord = fromWord;
+            this.toWord = toWord;
+        }
+
+        @Override
+        protected void compute() {
+            if(toWord - fromWord <= MIN_WORDS_PER_TASK){
+                validateWords(column,words,fromWord,toWord);
+                return;
+            }
+            int middle = (fromWord + toWord) >>> 1;
+            invokeAll(new ValidateTask(column,words,fromWord,middle),new ValidateTask(column,words,middle,toWord));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package util.validator.column;
+
+import util.validator.ValidityMask;
+
+import java.nio.DoubleBuffer;
+import java.util.function.DoublePredicate;
+
+/**
+ * ColumnValidator for double columns and double arrays, compiled from the conditions of one double key.
+ * The bounds are the inclusive interval [min,max], which never contains NaN. An unbounded column has no interval at all
+ */
+public final class DoubleColumnValidator extends ColumnValidator<DoubleBuffer> {
+    private final boolean bounded;
+    private final double min;
+    private final double max;
+    private final DoublePredicate[] conditions;
+
+    public DoubleColumnValidator(boolean bounded, double min, double max, DoublePredicate[] conditions){
+        this.bounded = bounded;
+        this.min = min;
+        this.max = max;
+        this.conditions = conditions.clone();
+    }
+
+    /**
+     * tests the bounds of all elements of the word first,
+     * then every other condition only on the elements which are still valid
+     */
+    @Override
+    protected long validateWord(DoubleBuffer column, int from, int count) {
+        long word = 0;
+        for(int j = 0; j < count; j++){
+            double x = column.get(from + j);
+            if(!bounded | (x >= min & x <= max))
+                word |= 1L << j;
+        }
+        for(DoublePredicate condition : conditions){
+            for(long remaining = word; remaining != 0; remaining &= remaining - 1){
+                int bit = Long.numberOfTrailingZeros(remaining);
+                if(!condition.test(column.get(from + bit)))
+                    word &= ~(1L << bit);
+            }
+        }
+        return word;
+    }
+
+    /**
+     * validates every element of the array
+     * @param values the array to validate
+     * @return a mask with one bit per element, set if the element is valid
+     */
+    public ValidityMask validateArray(double[] values){
+        long[] words = new long[(values.length + 63) >>> 6];
+        for(int w = 0; w < words.length; w++){
+            int from = w << 6;
+            words[w] = validateWord(values,from,Math.min(64,values.length - from));
+        }
+        return new ValidityMask(words,values.length);
+    }
+
+    /**
+     * returns the index of the first invalid element of the array
+     * @param values the array to validate
+     * @return the index of the first invalid element or -1 if all elements are valid
+     */
+    public int firstInvalid(double[] values){
+        for(int from = 0; from < values.length; from += 64){
+            int count = Math.min(64,values.length - from);
+            long invalid = ~validateWord(values,from,count) & (-1L >>> (64 - count));
+            if(invalid != 0)
+                return from + Long.numberOfTrailingZeros(invalid);
+        }
+        return -1;
+    }
+
+    private long validateWord(double[] values, int from, int count) {
+        long word = 0;
+        if(inBounds(values,from,from + count))
+            word = -1L >>> (64 - count);
+        else{
+            for(int j = 0; j < count; j++){
+                double x = values[from + j];
+                if(!bounded | (x >= min & x <= max))
+                    word |= 1L << j;
+            }
+        }
+        for(DoublePredicate condition : conditions){
+            for(long remaining = word; remaining != 0; remaining &= remaining - 1){
+                int bit = Long.numberOfTrailingZeros(remaining);
+                if(!condition.test(values[from + bit]))
+                    word &= ~(1L << bit);
+            }
+        }
+        return word;
+    }
+
+    /**
+     * checks if all elements of the block are within the bounds, by the lowest and the highest value of the block.
+     * The loop has no branches, so the JIT compiles it into vector min and max instructions. NaN makes the lowest or highest value NaN, so the block is tested element by element
+     */
+    private boolean inBounds(double[] values, int from, int to){
+        if(!bounded)
+            return true;
+        double lowest = Double.POSITIVE_INFINITY;
+        double highest = Double.NEGATIVE_INFINITY;
+        for(int i = from; i < to; i++){
+            lowest = Math.min(lowest,values[i]);
+            highest = Math.max(highest,values[i]);
+        }
+        return lowest >= min && highest <= max;
+    }
+}
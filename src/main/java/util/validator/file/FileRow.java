@@ -0,0 +1,324 @@
+package util.validator.file;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Cursor over one row of a memory mapped CSV or NDJSON file, it is reused for every row of a chunk.
+ * Fields are only located and parsed when a key extractor reads them, directly from the mapped bytes.
+ * <p>
+ * A field which is missing or isn't a number makes the row malformed, which is always invalid.
+ * Quoted CSV fields containing the delimiter and nested JSON objects are not supported
+ */
+public final class FileRow {
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final ByteBuffer buffer;
+    private final byte delimiter;
+    private int start;
+    private int end;
+    private boolean malformed;
+    // start and end of the csv columns located so far
+    private int[] columnStarts = new int[16];
+    private int[] columnEnds = new int[16];
+    private int located;
+    private int locatedEnd;
+
+    FileRow(ByteBuffer buffer, byte delimiter){
+        this.buffer = buffer;
+        this.delimiter = delimiter;
+    }
+
+    void moveTo(int start, int end){
+        this.start = start;
+        this.end = end;
+        this.malformed = false;
+        this.located = 0;
+        this.locatedEnd = start;
+    }
+
+    /**
+     * @return if a field of this row was missing or not a number
+     */
+    public boolean isMalformed(){
+        return malformed;
+    }
+
+    /**
+     * @param column the index of the csv column, starting at 0
+     * @return a key extractor parsing the column as int
+     */
+    public static ToIntFunction<FileRow> intColumn(int column){
+        checkColumn(column);
+        return row -> row.locateColumn(column) ? (int) row.parseLong(row.columnStarts[column],row.columnEnds[column],Integer.MIN_VALUE,Integer.MAX_VALUE) : 0;
+    }
+
+    /**
+     * @param column the index of the csv column, starting at 0
+     * @return a key extractor parsing the column as long
+     */
+    public static ToLongFunction<FileRow> longColumn(int column){
+        checkColumn(column);
+        return row -> row.locateColumn(column) ? row.parseLong(row.columnStarts[column],row.columnEnds[column],Long.MIN_VALUE,Long.MAX_VALUE) : 0;
+    }
+
+    /**
+     * @param column the index of the csv column, starting at 0
+     * @return a key extractor parsing the column as double
+     */
+    public static ToDoubleFunction<FileRow> doubleColumn(int column){
+        checkColumn(column);
+        return row -> row.locateColumn(column) ? row.parseDouble(row.columnStarts[column],row.columnEnds[column]) : 0;
+    }
+
+    /**
+     * @param name the name of a top level field of the json object
+     * @return a key extractor parsing the field as int
+     */
+    public static ToIntFunction<FileRow> intField(String name){
+        byte[] key = key(name);
+        return row -> {
+            int valueStart = row.locateField(key);
+            return valueStart < 0 ? 0 : (int) row.parseLong(valueStart,row.valueEnd(valueStart),Integer.MIN_VALUE,Integer.MAX_VALUE);
+        };
+    }
+
+    /**
+     * @param name the name of a top level field of the json object
+     * @return a key extractor parsing the field as long
+     */
+    public static ToLongFunction<FileRow> longField(String name){
+        byte[] key = key(name);
+        return row -> {
+            int valueStart = row.locateField(key);
+            return valueStart < 0 ? 0 : row.parseLong(valueStart,row.valueEnd(valueStart),Long.MIN_VALUE,Long.MAX_VALUE);
+        };
+    }
+
+    /**
+     * @param name the name of a top level field of the json object
+     * @return a key extractor parsing the field as double
+     */
+    public static ToDoubleFunction<FileRow> doubleField(String name){
+        byte[] key = key(name);
+        return row -> {
+            int valueStart = row.locateField(key);
+            return valueStart < 0 ? 0 : row.parseDouble(valueStart,row.valueEnd(valueStart));
+        };
+    }
+
+    private static void checkColumn(int column){
+        if(column < 0)
+            throw new IllegalArgumentException("column can't be negative");
+    }
+
+    private static byte[] key(String name){
+        return ("\"" + name + "\"").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * finds the bounds of the column, continuing after the last column located in this row
+     * @return false if the row has fewer columns
+     */
+    private boolean locateColumn(int column){
+        if(column >= columnStarts.length){
+            columnStarts = Arrays.copyOf(columnStarts,column + 16);
+            columnEnds = Arrays.copyOf(columnEnds,column + 16);
+        }
+        while(located <= column){
+            if(locatedEnd > end || located > 0 && locatedEnd == end){
+                malformed = true;
+                return false;
+            }
+            int fieldStart = located == 0 ? start : locatedEnd + 1;
+            int fieldEnd = fieldStart;
+            while(fieldEnd < end && buffer.get(fieldEnd) != delimiter){
+                fieldEnd++;
+            }
+            columnStarts[located] = fieldStart;
+            columnEnds[located] = fieldEnd;
+            locatedEnd = fieldEnd;
+            located++;
+        }
+        return true;
+    }
+
+    /**
+     * finds the value of a top level field of the json object
+     * @return the index of the first byte of the value, -1 if the field doesn't exist
+     */
+    private int locateField(byte[] key){
+        int depth = 0;
+        for(int i = start; i < end; i++){
+            byte b = buffer.get(i);
+            if(b == '{' || b == '[')
+                depth++;
+            else if(b == '}' || b == ']')
+                depth--;
+            else if(b == '"'){
+                if(depth == 1 && matches(i,key)){
+                    int colon = skipWhitespace(i + key.length);
+                    if(colon < end && buffer.get(colon) == ':')
+                        return skipWhitespace(colon + 1);
+                }
+                i = skipString(i);
+            }
+        }
+        malformed = true;
+        return -1;
+    }
+
+    private boolean matches(int index, byte[] key){
+        if(index + key.length > end)
+            return false;
+        for(int i = 0; i < key.length; i++){
+            if(buffer.get(index + i) != key[i])
+                return false;
+        }
+        return true;
+    }
+
+    private int skipString(int quote){
+        for(int i = quote + 1; i < end; i++){
+            byte b = buffer.get(i);
+            if(b == '\\')
+                i++;
+            else if(b == '"')
+                return i;
+        }
+        return end;
+    }
+
+    private int skipWhitespace(int index){
+        while(index < end && isWhitespace(buffer.get(index))){
+            index++;
+        }
+        return index;
+    }
+
+    private int valueEnd(int valueStart){
+        int index = valueStart;
+        while(index < end){
+            byte b = buffer.get(index);
+            if(b == ',' || b == '}' || b == ']' || isWhitespace(b))
+                break;
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean isWhitespace(byte b){
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+
+    private long parseLong(int from, int to, long min, long max){
+        while(from < to && isWhitespace(buffer.get(from))){
+            from++;
+        }
+        while(to > from && isWhitespace(buffer.get(to - 1))){
+            to--;
+        }
+        boolean negative = from < to && buffer.get(from) == '-';
+        if(from < to && (negative || buffer.get(from) == '+'))
+            from++;
+        if(from == to){
+            malformed = true;
+            return 0;
+        }
+        // accumulated negative, so Long.MIN_VALUE can be parsed
+        long value = 0;
+        for(int i = from; i < to; i++){
+            int digit = buffer.get(i) - '0';
+            if(digit < 0 || digit > 9 || value < (Long.MIN_VALUE + digit) / 10){
+                malformed = true;
+                return 0;
+            }
+            value = value * 10 - digit;
+        }
+        if(!negative){
+            if(value == Long.MIN_VALUE){
+                malformed = true;
+                return 0;
+            }
+            value = -value;
+        }
+        if(value < min || value > max){
+            malformed = true;
+            return 0;
+        }
+        return value;
+    }
+
+    /**
+     * parses the number in place if it has at most 15 significant digits and a small exponent,
+     * where one multiplication or division is correctly rounded. Other numbers are copied and parsed by Double
+     */
+    private double parseDouble(int from, int to){
+        while(from < to && isWhitespace(buffer.get(from))){
+            from++;
+        }
+        while(to > from && isWhitespace(buffer.get(to - 1))){
+            to--;
+        }
+        int i = from;
+        boolean negative = i < to && buffer.get(i) == '-';
+        if(i < to && (negative || buffer.get(i) == '+'))
+            i++;
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigit = false;
+        for(; i < to && isDigit(buffer.get(i)); i++){
+            anyDigit = true;
+            if(mantissa != 0 || buffer.get(i) != '0')
+                digits++;
+            mantissa = mantissa * 10 + (buffer.get(i) - '0');
+            if(digits > 15)
+                return parseDoubleSlow(from,to);
+        }
+        if(i < to && buffer.get(i) == '.'){
+            for(i++; i < to && isDigit(buffer.get(i)); i++){
+                anyDigit = true;
+                if(mantissa != 0 || buffer.get(i) != '0')
+                    digits++;
+                mantissa = mantissa * 10 + (buffer.get(i) - '0');
+                exponent--;
+                if(digits > 15)
+                    return parseDoubleSlow(from,to);
+            }
+        }
+        if(i < to && (buffer.get(i) == 'e' || buffer.get(i) == 'E'))
+            return parseDoubleSlow(from,to);
+        if(!anyDigit || i != to){
+            malformed = true;
+            return 0;
+        }
+        if(exponent < -22)
+            return parseDoubleSlow(from,to);
+        double value = exponent == 0 ? mantissa : mantissa / POWERS_OF_TEN[-exponent];
+        return negative ? -value : value;
+    }
+
+    private double parseDoubleSlow(int from, int to){
+        byte[] bytes = new byte[to - from];
+        buffer.get(from,bytes);
+        try{
+            return Double.parseDouble(new String(bytes,StandardCharsets.ISO_8859_1));
+        }
+        catch (NumberFormatException e){
+            malformed = true;
+            return 0;
+        }
+    }
+
+    private static boolean isDigit(byte b){
+        return b >= '0' && b <= '9';
+    }
+}
@@ -0,0 +1,42 @@
+package util.validator.file;
+
+import java.util.Arrays;
+
+/**
+ * Immutable result of validating a file
+ */
+public final class FileValidationReport {
+    private final long rows;
+    private final long[] invalidLines;
+
+    FileValidationReport(long rows, long[] invalidLines){
+        this.rows = rows;
+        this.invalidLines = invalidLines;
+    }
+
+    /**
+     * @return the number of validated rows, without the header and empty lines
+     */
+    public long rows(){
+        return rows;
+    }
+
+    /**
+     * @return if all rows were valid
+     */
+    public boolean isValid(){
+        return invalidLines.length == 0;
+    }
+
+    /**
+     * @return the line numbers of all invalid rows in ascending order, the first line of the file is 1
+     */
+    public long[] invalidLines(){
+        return invalidLines.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "FileValidationReport{rows=" + rows + ", invalidLines=" + Arrays.toString(invalidLines) + "}";
+    }
+}
@@ -0,0 +1,224 @@
+package util.validator.file;
+
+import util.validator.Validator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Validates every row of a CSV or NDJSON file without creating objects for the rows.
+ * <p>
+ * The file is split into chunks at line breaks, which are memory mapped and validated in parallel.
+ * Every chunk reuses one FileRow for all its rows, the key extractors of FileRow parse the fields in place:
+ * <pre>{@code
+ * Validator<FileRow> validator = new IntValidatorBuilderImpl<>(FileRow.intColumn(0))
+ *         .inRange(0,150)
+ *         .doubleKey(FileRow.doubleColumn(2))
+ *         .positive()
+ *         .build();
+ * FileValidationReport report = FileValidator.csv(',',true).validate(path,validator);
+ * }</pre>
+ * Only invalid rows allocate memory, for their line number in the report
+ */
+public final class FileValidator {
+    // a single mapping can't be bigger than Integer.MAX_VALUE bytes
+    private static final long MAX_CHUNK_SIZE = 1L << 30;
+
+    private final byte delimiter;
+    private final boolean header;
+    private final ForkJoinPool pool;
+    private final long maxChunkSize;
+
+    private FileValidator(byte delimiter, boolean header, ForkJoinPool pool, long maxChunkSize){
+        this.delimiter = delimiter;
+        this.header = header;
+        this.pool = pool;
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    /**
+     * @param delimiter the character between two columns
+     * @param header if the first line is a header, which isn't validated
+     * @return a FileValidator for CSV files, validating on the common pool
+     */
+    public static FileValidator csv(char delimiter, boolean header){
+        if(delimiter > 127)
+            throw new IllegalArgumentException("the delimiter must be an ASCII character");
+        return new FileValidator((byte) delimiter,header,ForkJoinPool.commonPool(),MAX_CHUNK_SIZE);
+    }
+
+    /**
+     * @return a FileValidator for files with one JSON object per line, validating on the common pool
+     */
+    public static FileValidator ndjson(){
+        return new FileValidator((byte) ',',false,ForkJoinPool.commonPool(),MAX_CHUNK_SIZE);
+    }
+
+    /**
+     * @param pool the pool to validate the chunks on
+     * @return a FileValidator of the same format validating on the pool
+     */
+    public FileValidator on(ForkJoinPool pool){
+        return new FileValidator(delimiter,header,pool,maxChunkSize);
+    }
+
+    /**
+     * @param maxChunkSize the maximum number of bytes mapped and validated by one task
+     * @return a FileValidator of the same format with the chunk size
+     */
+    public FileValidator withMaxChunkSize(long maxChunkSize){
+        if(maxChunkSize < 1 || maxChunkSize > MAX_CHUNK_SIZE)
+            throw new IllegalArgumentException("maxChunkSize must be between 1 and " + MAX_CHUNK_SIZE);
+        return new FileValidator(delimiter,header,pool,maxChunkSize);
+    }
+
+    /**
+     * validates every row of the file, rows with a missing or malformed field are invalid
+     * @param file the file to validate
+     * @param validator the validator of the rows
+     * @return the line numbers of the invalid rows
+     * @throws UncheckedIOException if the file can't be read
+     */
+    public FileValidationReport validate(Path file, Validator<FileRow> validator){
+        try(FileChannel channel = FileChannel.open(file,StandardOpenOption.READ)){
+            long[] bounds = chunkBounds(channel);
+            List<Future<ChunkResult>> futures = new ArrayList<>();
+            for(int i = 0; i < bounds.length - 1; i++){
+                long start = bounds[i];
+                long end = bounds[i + 1];
+                boolean skipHeader = header && i == 0;
+                futures.add(pool.submit(() -> validateChunk(map(channel,start,end - start),skipHeader,validator)));
+            }
+
+            long rows = 0;
+            long linesBefore = 0;
+            long[] invalidLines = new long[0];
+            for(Future<ChunkResult> future : futures){
+                ChunkResult result = future.get();
+                int offset = invalidLines.length;
+                invalidLines = Arrays.copyOf(invalidLines,offset + result.invalidCount);
+                for(int i = 0; i < result.invalidCount; i++){
+                    invalidLines[offset + i] = linesBefore + result.invalidLines[i] + 1;
+                }
+                rows += result.rows;
+                linesBefore += result.lines;
+            }
+            return new FileValidationReport(rows,invalidLines);
+        }
+        catch (IOException e){
+            throw new UncheckedIOException(e);
+        }
+        catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while validating " + file,e);
+        }
+        catch (ExecutionException e){
+            if(e.getCause() instanceof UncheckedIOException cause)
+                throw cause;
+            if(e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw new IllegalStateException("couldn't validate " + file,e.getCause());
+        }
+    }
+
+    /**
+     * splits the file into one chunk per worker, but at most maxChunkSize bytes each, every chunk ends after a line break
+     */
+    private long[] chunkBounds(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long chunks = Math.max(pool.getParallelism(),(size + maxChunkSize - 1) / maxChunkSize);
+        long chunkSize = Math.max(1,(size + chunks - 1) / chunks);
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        long position = 0;
+        while(position < size){
+            long next = Math.min(size,position + chunkSize);
+            if(next < size)
+                next = lineEnd(channel,next - 1,buffer);
+            if(next - position > MAX_CHUNK_SIZE)
+                throw new IllegalStateException("a line is longer than " + MAX_CHUNK_SIZE + " bytes");
+            bounds.add(next);
+            position = next;
+        }
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * @return the position after the first line break at or after the position, or the size of the file
+     */
+    private static long lineEnd(FileChannel channel, long position, ByteBuffer buffer) throws IOException {
+        while(true){
+            buffer.clear();
+            int read = channel.read(buffer,position);
+            if(read <= 0)
+                return channel.size();
+            for(int i = 0; i < read; i++){
+                if(buffer.get(i) == '\n')
+                    return position + i + 1;
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * maps the chunk in the worker, an IOException is thrown as UncheckedIOException like the ones of the caller
+     */
+    private static MappedByteBuffer map(FileChannel channel, long position, long size){
+        try{
+            return channel.map(FileChannel.MapMode.READ_ONLY,position,size);
+        }
+        catch (IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ChunkResult validateChunk(MappedByteBuffer buffer, boolean skipHeader, Validator<FileRow> validator){
+        ChunkResult result = new ChunkResult();
+        FileRow row = new FileRow(buffer,delimiter);
+        int limit = buffer.limit();
+        int lineStart = 0;
+        while(lineStart < limit){
+            int lineEnd = lineStart;
+            while(lineEnd < limit && buffer.get(lineEnd) != '\n'){
+                lineEnd++;
+            }
+            int contentEnd = lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+            boolean skip = skipHeader && result.lines == 0 || contentEnd == lineStart;
+            if(!skip){
+                row.moveTo(lineStart,contentEnd);
+                boolean valid = validator.validate(row) && !row.isMalformed();
+                if(!valid)
+                    result.addInvalid(result.lines);
+                result.rows++;
+            }
+            result.lines++;
+            lineStart = lineEnd + 1;
+        }
+        return result;
+    }
+
+    private static final class ChunkResult {
+        private long lines;
+        private long rows;
+        private long[] invalidLines = new long[16];
+        private int invalidCount;
+
+        private void addInvalid(long line){
+            if(invalidCount == invalidLines.length)
+                invalidLines = Arrays.copyOf(invalidLines,invalidCount * 2);
+            invalidLines[invalidCount++] = line;
+        }
+    }
+}
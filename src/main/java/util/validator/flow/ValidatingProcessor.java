@@ -0,0 +1,275 @@
+package util.validator.flow;
+
+import util.validator.Validator;
+import util.validator.ValidityMask;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Flow.Processor which only passes on the valid items of a stream, in their original order.
+ * Invalid items are handed to a side channel instead.
+ * <p>
+ * Items are requested from upstream and validated in micro-batches of batchSize with Validator.validateAll().
+ * At most as many items are requested as the subscriber demanded, plus one batch,
+ * invalid items are replaced by requesting more. With an executor the batches are validated on it,
+ * at most maxBatchesInFlight at the same time, and still passed on in order.
+ * <p>
+ * A partial batch is only validated when the stream completes, so a slow stream should use a small batchSize.
+ * The processor supports one subscriber
+ * @param <T> the type of the items
+ */
+public class ValidatingProcessor<T> implements Flow.Processor<T,T> {
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private final Validator<T> validator;
+    private final int batchSize;
+    private final Consumer<? super T> invalidItems;
+    private final Executor executor;
+    private final int maxBatchesInFlight;
+
+    private final Queue<Batch> batches = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger batchesInFlight = new AtomicInteger();
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicLong buffered = new AtomicLong();
+    private final AtomicLong upstreamOutstanding = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private volatile Flow.Subscription upstream;
+    private volatile Flow.Subscriber<? super T> downstream;
+    private volatile boolean upstreamDone;
+    private volatile Throwable error;
+    private volatile boolean cancelled;
+    private boolean terminated;
+    // only used by the serial onNext() and onComplete() calls
+    private List<T> current;
+
+    /**
+     * validates the items on the thread which delivers them
+     * @param validator the validator of the items
+     * @param invalidItems receives every invalid item
+     */
+    public ValidatingProcessor(Validator<T> validator, Consumer<? super T> invalidItems){
+        this(validator,DEFAULT_BATCH_SIZE,invalidItems,null,1);
+    }
+
+    /**
+     * @param validator the validator of the items
+     * @param batchSize the number of items validated together
+     * @param invalidItems receives every invalid item, on the thread which passes on the valid ones
+     * @param executor the executor to validate the batches on, null to validate them on the thread which delivers the items
+     * @param maxBatchesInFlight the maximum number of batches which are requested but not passed on yet
+     */
+    public ValidatingProcessor(Validator<T> validator, int batchSize, Consumer<? super T> invalidItems, Executor executor, int maxBatchesInFlight){
+        if(batchSize < 1 || maxBatchesInFlight < 1)
+            throw new IllegalArgumentException("batchSize and maxBatchesInFlight must be positive");
+        this.validator = Objects.requireNonNull(validator);
+        this.batchSize = batchSize;
+        this.invalidItems = Objects.requireNonNull(invalidItems);
+        this.executor = executor;
+        this.maxBatchesInFlight = maxBatchesInFlight;
+        this.current = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        synchronized (this){
+            if(downstream == null){
+                downstream = subscriber;
+                subscriber.onSubscribe(new DownstreamSubscription());
+                drain();
+                return;
+            }
+        }
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        subscriber.onError(new IllegalStateException("ValidatingProcessor only supports one subscriber"));
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if(upstream != null || cancelled){
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        drain();
+    }
+
+    @Override
+    public void onNext(T item) {
+        current.add(item);
+        buffered.incrementAndGet();
+        if(upstreamOutstanding.decrementAndGet() == 0 || current.size() == batchSize)
+            seal();
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        error = throwable;
+        upstreamDone = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        if(!current.isEmpty())
+            seal();
+        upstreamDone = true;
+        drain();
+    }
+
+    private void seal(){
+        Batch batch = new Batch(current);
+        current = new ArrayList<>(batchSize);
+        batches.add(batch);
+        if(executor == null){
+            batch.validate();
+            return;
+        }
+        executor.execute(() -> {
+            batch.validate();
+            drain();
+        });
+    }
+
+    /**
+     * passes on the validated items and requests new ones, only one thread at a time runs the loop
+     */
+    private void drain(){
+        if(wip.getAndIncrement() != 0)
+            return;
+        int missed = 1;
+        while(true){
+            if(!terminated)
+                emit();
+            missed = wip.addAndGet(-missed);
+            if(missed == 0)
+                return;
+        }
+    }
+
+    private void emit(){
+        Flow.Subscriber<? super T> downstream = this.downstream;
+        if(downstream == null)
+            return;
+        if(cancelled){
+            terminated = true;
+            batches.clear();
+            return;
+        }
+        Throwable error = this.error;
+        if(error != null){
+            terminate();
+            downstream.onError(error);
+            return;
+        }
+
+        Batch batch;
+        while((batch = batches.peek()) != null && batch.mask != null){
+            while(batch.next < batch.items.size()){
+                T item = batch.items.get(batch.next);
+                if(batch.mask.isValid(batch.next)){
+                    if(demand.get() == 0)
+                        break;
+                    demand.decrementAndGet();
+                    downstream.onNext(item);
+                }
+                else
+                    invalidItems.accept(item);
+                batch.next++;
+                buffered.decrementAndGet();
+                if(cancelled)
+                    return;
+            }
+            if(batch.next < batch.items.size())
+                break;
+            batches.poll();
+            batchesInFlight.decrementAndGet();
+        }
+
+        if(upstreamDone && batches.isEmpty()){
+            terminate();
+            downstream.onComplete();
+            return;
+        }
+        Flow.Subscription upstream = this.upstream;
+        if(upstream != null && !upstreamDone && upstreamOutstanding.get() == 0
+                && batchesInFlight.get() < maxBatchesInFlight && buffered.get() < demand.get()){
+            batchesInFlight.incrementAndGet();
+            upstreamOutstanding.set(batchSize);
+            upstream.request(batchSize);
+        }
+    }
+
+    private void terminate(){
+        terminated = true;
+        batches.clear();
+    }
+
+    private void fail(Throwable throwable){
+        error = throwable;
+        Flow.Subscription upstream = this.upstream;
+        if(upstream != null)
+            upstream.cancel();
+        drain();
+    }
+
+    private final class Batch {
+        private final List<T> items;
+        private volatile ValidityMask mask;
+        private int next;
+
+        private Batch(List<T> items){
+            this.items = items;
+        }
+
+        private void validate(){
+            try{
+                mask = validator.validateAll(items);
+            }
+            catch (Throwable e){
+                fail(e);
+            }
+        }
+    }
+
+    private final class DownstreamSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if(n <= 0){
+                fail(new IllegalArgumentException("the requested number of items must be positive"));
+                return;
+            }
+            demand.getAndUpdate(demand -> demand + n < 0 ? Long.MAX_VALUE : demand + n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            Flow.Subscription upstream = ValidatingProcessor.this.upstream;
+            if(upstream != null)
+                upstream.cancel();
+            drain();
+        }
+    }
+}
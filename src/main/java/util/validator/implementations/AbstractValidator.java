@@ -1,9 +1,17 @@
 package util.validator.implementations;
 
+import util.validator.ValidationException;
+import util.validator.ValidationResult;
 import util.validator.Validator;
+import util.validator.ValidityMask;
+import util.validator.jfr.BatchValidationEvent;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
 public abstract class AbstractValidator<T> implements Validator<T> {
@@ -25,7 +33,64 @@ public abstract class AbstractValidator<T> implements Validator<T> {
      */
     @Override
     public boolean allValid(Collection<T> toValidate) {
-        return toValidate.stream().allMatch(this::validate);
+        if(!BatchValidationEvent.enabled())
+            return toValidate.stream().allMatch(this::validate);
+        var event = new BatchValidationEvent();
+        event.begin();
+        return event.finish(this,toValidate.size(),false,toValidate.stream().allMatch(this::validate));
+    }
+
+    /**
+     * returns if all the objects match all the conditions, validating them in parallel on the pool.
+     * Small collections are validated sequentially.
+     * All workers stop as soon as one invalid object is found
+     *
+     * @param toValidate the objects to validate
+     * @param pool       the pool to validate the objects on
+     * @return if the objects are valid
+     */
+    @Override
+    public boolean allValid(Collection<T> toValidate, ForkJoinPool pool) {
+        if(toValidate.size() < AllValidTask.PARALLEL_THRESHOLD || pool.getParallelism() == 1)
+            return allValid(toValidate);
+        var task = new AllValidTask<>(this,toValidate.spliterator(),pool.getParallelism());
+        if(!BatchValidationEvent.enabled()){
+            pool.invoke(task);
+            return !task.isInvalid();
+        }
+        var event = new BatchValidationEvent();
+        event.begin();
+        pool.invoke(task);
+        return event.finish(this,toValidate.size(),true,!task.isInvalid());
+    }
+
+    /**
+     * validates every object of the list
+     *
+     * @param toValidate the objects to validate
+     * @return a mask with one bit per object, set if the object is valid
+     */
+    @Override
+    public ValidityMask validateAll(List<T> toValidate) {
+        long[] words = new long[(toValidate.size() + 63) >>> 6];
+        int index = 0;
+        for(T t : toValidate){
+            if(this.validate(t))
+                words[index >>> 6] |= 1L << index;
+            index++;
+        }
+        return new ValidityMask(words,toValidate.size());
+    }
+
+    /**
+     * validates every object of the array
+     *
+     * @param toValidate the objects to validate
+     * @return a mask with one bit per object, set if the object is valid
+     */
+    @Override
+    public ValidityMask validateAll(T[] toValidate) {
+        return validateAll(Arrays.asList(toValidate));
     }
 
     /**
@@ -41,6 +106,20 @@ public abstract class AbstractValidator<T> implements Validator<T> {
         return Optional.empty();
     }
 
+    /**
+     * validates the object and returns which condition failed.
+     * This implementation only knows if the object is valid, not which condition failed
+     *
+     * @param toValidate the object to validate
+     * @return ValidationResult.valid() or a result with UNKNOWN key and condition
+     */
+    @Override
+    public ValidationResult validateWithResult(T toValidate) {
+        if(this.validate(toValidate))
+            return ValidationResult.valid();
+        return ValidationResult.invalid(ValidationResult.UNKNOWN,ValidationResult.UNKNOWN,null);
+    }
+
     /**
      * Returns the given object if its valid, otherwise other
      *
@@ -58,13 +137,13 @@ public abstract class AbstractValidator<T> implements Validator<T> {
      *
      * @param t the value to validate
      * @return the value
-     * @throws IllegalArgumentException if the value is invalid
+     * @throws ValidationException if the value is invalid, it has no stack trace
      */
     @Override
-    public T validOrThrow(T t) throws IllegalArgumentException {
+    public T validOrThrow(T t) throws ValidationException {
         if(this.validate(t))
             return t;
-        throw new IllegalArgumentException(t + "is invalid");
+        throw new ValidationException(t);
     }
 
     /**
@@ -81,4 +160,31 @@ public abstract class AbstractValidator<T> implements Validator<T> {
             return t;
         throw throwableSupplier.get();
     }
+
+    /**
+     * Returns a Validator which caches the results of this one, compared by equals() and hashCode().
+     * Only use it for immutable objects
+     *
+     * @param maxEntries  the maximum number of cached results
+     * @param expireAfter how long a result stays cached
+     * @return the memoizing Validator
+     */
+    @Override
+    public MemoizedValidator<T> memoized(int maxEntries, Duration expireAfter) {
+        return memoized(maxEntries,expireAfter,MemoizedValidator.Keys.EQUALITY);
+    }
+
+    /**
+     * Returns a Validator which caches the results of this one.
+     * Only use it for immutable objects
+     *
+     * @param maxEntries  the maximum number of cached results
+     * @param expireAfter how long a result stays cached
+     * @param keys        if the objects are compared by equality or identity
+     * @return the memoizing Validator
+     */
+    @Override
+    public MemoizedValidator<T> memoized(int maxEntries, Duration expireAfter, MemoizedValidator.Keys keys) {
+        return new MemoizedValidator<>(this,maxEntries,expireAfter,keys);
+    }
 }
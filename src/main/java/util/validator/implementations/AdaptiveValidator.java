@@ -0,0 +1,127 @@
+package util.validator.implementations;
+
+import util.validator.jfr.ValidationEvent;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Validator which reorders its conditions at runtime, so that cheap conditions that often fail are tested first.
+ * <p>
+ * A sample of the validations evaluates every condition and measures its cost and how often it fails.
+ * After every reorderInterval samples the conditions are sorted by their expected cost to reject an object
+ * (cost / failure rate) and the new order is published without locking.
+ * <p>
+ * Only use this if the conditions don't depend on each other,
+ * e.g. a condition on a key must not rely on an earlier condition checking it for null
+ * @param <T> the type of the object to validate
+ */
+public class AdaptiveValidator<T> extends AbstractValidator<T> {
+    public static final int DEFAULT_SAMPLE_RATE = 64;
+    public static final int DEFAULT_REORDER_INTERVAL = 1024;
+
+    private final Predicate<T>[] predicates;
+    private final int sampleRate;
+    private final int reorderInterval;
+    private final LongAdder[] nanos;
+    private final LongAdder[] failures;
+    private final AtomicLong samples = new AtomicLong();
+    private final AtomicBoolean reordering = new AtomicBoolean();
+    private volatile int[] order;
+
+    public AdaptiveValidator(Predicate<T>[] predicates){
+        this(predicates,DEFAULT_SAMPLE_RATE,DEFAULT_REORDER_INTERVAL);
+    }
+
+    /**
+     * @param predicates the conditions in their initial order
+     * @param sampleRate one in sampleRate validations is measured
+     * @param reorderInterval the number of measured validations between two reorderings
+     */
+    public AdaptiveValidator(Predicate<T>[] predicates, int sampleRate, int reorderInterval){
+        if(sampleRate < 1 || reorderInterval < 1)
+            throw new IllegalArgumentException("sampleRate and reorderInterval must be positive");
+        this.predicates = predicates.clone();
+        this.sampleRate = sampleRate;
+        this.reorderInterval = reorderInterval;
+        this.nanos = new LongAdder[predicates.length];
+        this.failures = new LongAdder[predicates.length];
+        this.order = new int[predicates.length];
+        for(int i = 0; i < predicates.length; i++){
+            nanos[i] = new LongAdder();
+            failures[i] = new LongAdder();
+            order[i] = i;
+        }
+    }
+
+    /**
+     * returns if the object matches all the conditions
+     *
+     * @param toValidate the object to validate
+     * @return if the object is valid
+     */
+    @Override
+    public boolean validate(T toValidate) {
+        var event = ValidationEvent.start();
+        return event.finish(this,test(toValidate));
+    }
+
+    private boolean test(T toValidate){
+        if(sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0)
+            return sample(toValidate);
+        for(int i : order){
+            if(!predicates[i].test(toValidate))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return the indices of the conditions in the order they are currently evaluated
+     */
+    public int[] evaluationOrder(){
+        return order.clone();
+    }
+
+    private boolean sample(T toValidate){
+        boolean valid = true;
+        for(int i = 0; i < predicates.length; i++){
+            long start = System.nanoTime();
+            boolean result = predicates[i].test(toValidate);
+            nanos[i].add(System.nanoTime() - start);
+            if(!result){
+                failures[i].increment();
+                valid = false;
+            }
+        }
+        if(samples.incrementAndGet() % reorderInterval == 0)
+            reorder();
+        return valid;
+    }
+
+    private void reorder(){
+        if(!reordering.compareAndSet(false,true))
+            return;
+        try{
+            double[] rejectCost = new double[predicates.length];
+            long[] cost = new long[predicates.length];
+            for(int i = 0; i < predicates.length; i++){
+                cost[i] = nanos[i].sumThenReset();
+                long failed = failures[i].sumThenReset();
+                rejectCost[i] = failed == 0 ? Double.POSITIVE_INFINITY : (double) cost[i] / failed;
+            }
+            order = Arrays.stream(order).boxed()
+                    .sorted(Comparator.<Integer>comparingDouble(i -> rejectCost[i]).thenComparingLong(i -> cost[i]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+        finally {
+            reordering.set(false);
+        }
+    }
+}
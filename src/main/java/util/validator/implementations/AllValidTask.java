@@ -0,0 +1,68 @@
+package util.validator.implementations;
+
+import util.validator.BasicValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Validates the elements of a spliterator in parallel.
+ * As soon as one task finds an invalid element all other tasks stop at their next element
+ * @param <T> the type of the object to validate
+ */
+final class AllValidTask<T> extends RecursiveAction implements Consumer<T> {
+    private static final long serialVersionUID = 1L;
+    /**
+     * collections smaller than this are validated sequentially
+     */
+    static final int PARALLEL_THRESHOLD = 8192;
+    private static final int MIN_SPLIT_SIZE = 1024;
+
+    private final BasicValidator<T> validator;
+    private final Spliterator<T> spliterator;
+    private final AtomicBoolean invalid;
+    private final long splitSize;
+
+    AllValidTask(BasicValidator<T> validator, Spliterator<T> spliterator, int parallelism){
+        this(validator,spliterator,new AtomicBoolean(),
+                Math.max(MIN_SPLIT_SIZE,spliterator.estimateSize() / (parallelism * 4L)));
+    }
+
+    private AllValidTask(BasicValidator<T> validator, Spliterator<T> spliterator, AtomicBoolean invalid, long splitSize){
+        this.validator = validator;
+        this.spliterator = spliterator;
+        this.invalid = invalid;
+        this.splitSize = splitSize;
+    }
+
+    boolean isInvalid(){
+        return invalid.get();
+    }
+
+    @Override
+    protected void compute() {
+        List<AllValidTask<T>> forked = new ArrayList<>();
+        Spliterator<T> split;
+        while(spliterator.estimateSize() > splitSize && !invalid.get() && (split = spliterator.trySplit()) != null){
+            var task = new AllValidTask<>(validator,split,invalid,splitSize);
+            task.fork();
+            forked.add(task);
+        }
+        while(!invalid.get() && spliterator.tryAdvance(this)){
+            // accept() validates one element per iteration
+        }
+        for(var task : forked){
+            task.join();
+        }
+    }
+
+    @Override
+    public void accept(T t) {
+        if(!validator.validate(t))
+            invalid.set(true);
+    }
+}
@@ -0,0 +1,127 @@
+package util.validator.implementations;
+
+import util.validator.AsyncValidator;
+import util.validator.builder.condition.AsyncCondition;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Immutable AsyncValidator created by the ValidatorBuilders.
+ * validateAsync() tests the other conditions on the calling thread first,
+ * then it evaluates all AsyncConditions concurrently on the executor.
+ * The first failing condition completes the result and cancels or skips the conditions which didn't start yet,
+ * conditions which are already running are not interrupted
+ * @param <T> the type of the object to validate
+ */
+public class CompiledAsyncValidator<T> extends AbstractValidator<T> implements AsyncValidator<T> {
+    private static final Executor DEFAULT_EXECUTOR = defaultExecutor();
+
+    private final Predicate<T>[] predicates;
+    private final Predicate<T>[] asyncPredicates;
+    private final Executor executor;
+
+    public CompiledAsyncValidator(Predicate<T>[] predicates){
+        this(predicates,DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * @param predicates the compiled conditions, including the AsyncConditions
+     * @param executor the executor the AsyncConditions are evaluated on
+     */
+    @SuppressWarnings("unchecked")
+    public CompiledAsyncValidator(Predicate<T>[] predicates, Executor executor){
+        List<Predicate<T>> sync = new ArrayList<>();
+        List<Predicate<T>> async = new ArrayList<>();
+        for(Predicate<T> predicate : predicates){
+            (predicate instanceof AsyncCondition ? async : sync).add(predicate);
+        }
+        this.predicates = sync.toArray(Predicate[]::new);
+        this.asyncPredicates = async.toArray(Predicate[]::new);
+        this.executor = executor;
+    }
+
+    /**
+     * virtual threads if the runtime has them, otherwise a cached pool of daemon threads
+     */
+    private static Executor defaultExecutor(){
+        try{
+            return (Executor) MethodHandles.publicLookup()
+                    .findStatic(Executors.class,"newVirtualThreadPerTaskExecutor",MethodType.methodType(ExecutorService.class))
+                    .invoke();
+        }
+        catch (Throwable e){
+            AtomicInteger threads = new AtomicInteger();
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable,"async-validator-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * returns if the object matches all the conditions, the blocking ones are evaluated on the calling thread
+     *
+     * @param toValidate the object to validate
+     * @return if the object is valid
+     */
+    @Override
+    public boolean validate(T toValidate) {
+        for(Predicate<T> predicate : predicates){
+            if(!predicate.test(toValidate))
+                return false;
+        }
+        for(Predicate<T> predicate : asyncPredicates){
+            if(!predicate.test(toValidate))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * returns if the object matches all the conditions.
+     * The conditions which block are evaluated concurrently, the future completes with false as soon as one fails
+     *
+     * @param toValidate the object to validate
+     * @return a future of whether the object is valid
+     */
+    @Override
+    public CompletableFuture<Boolean> validateAsync(T toValidate) {
+        for(Predicate<T> predicate : predicates){
+            if(!predicate.test(toValidate))
+                return CompletableFuture.completedFuture(false);
+        }
+        if(asyncPredicates.length == 0)
+            return CompletableFuture.completedFuture(true);
+
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(asyncPredicates.length);
+        CompletableFuture<?>[] conditions = new CompletableFuture<?>[asyncPredicates.length];
+        for(int i = 0; i < asyncPredicates.length; i++){
+            Predicate<T> predicate = asyncPredicates[i];
+            // a condition which starts after the result is known is skipped
+            CompletableFuture<Boolean> condition = CompletableFuture.supplyAsync(() -> result.isDone() || predicate.test(toValidate),executor);
+            conditions[i] = condition;
+            condition.whenComplete((valid,error) -> {
+                if(error != null)
+                    result.completeExceptionally(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+                else if(!valid)
+                    result.complete(false);
+                else if(remaining.decrementAndGet() == 0)
+                    result.complete(true);
+            });
+        }
+        result.whenComplete((valid,error) -> {
+            for(CompletableFuture<?> condition : conditions){
+                condition.cancel(false);
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,124 @@
+package util.validator.implementations;
+
+import util.validator.ValidationResult;
+import util.validator.ValidityMask;
+import util.validator.builder.condition.KeyCondition;
+import util.validator.jfr.ValidationEvent;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * Immutable Validator created by the ValidatorBuilders.
+ * It only holds the flat array of all conditions in the chain, no references to the builders
+ * @param <T> the type of the object to validate
+ */
+public class CompiledValidator<T> extends AbstractValidator<T> {
+    private final Predicate<T>[] predicates;
+
+    public CompiledValidator(Predicate<T>[] predicates){
+        this.predicates = predicates.clone();
+    }
+
+    /**
+     * returns if the object matches all the conditions
+     *
+     * @param toValidate the object to validate
+     * @return if the object is valid
+     */
+    @Override
+    public boolean validate(T toValidate) {
+        var event = ValidationEvent.start();
+        return event.finish(this,test(toValidate));
+    }
+
+    private boolean test(T toValidate){
+        for(Predicate<T> predicate : predicates){
+            if(!predicate.test(toValidate))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * validates the object and returns which condition failed.
+     * The conditions are tested in the same order as validate() and stop at the first one which fails
+     *
+     * @param toValidate the object to validate
+     * @return ValidationResult.valid() or the first condition the object didn't match
+     */
+    @Override
+    public ValidationResult validateWithResult(T toValidate) {
+        var event = ValidationEvent.start();
+        var result = check(toValidate);
+        event.finish(this,result.isValid());
+        return result;
+    }
+
+    private ValidationResult check(T toValidate){
+        for(int i = 0; i < predicates.length; i++){
+            Predicate<T> predicate = predicates[i];
+            if(predicate instanceof KeyCondition<T> condition){
+                var result = condition.check(toValidate,i);
+                if(!result.isValid())
+                    return result;
+            }
+            else if(!predicate.test(toValidate))
+                return ValidationResult.invalid(i,ValidationResult.UNKNOWN,null);
+        }
+        return ValidationResult.valid();
+    }
+
+    /**
+     * validates every object of the list, one condition at a time over the whole batch.
+     * Objects which already failed a condition are skipped
+     *
+     * @param toValidate the objects to validate
+     * @return a mask with one bit per object, set if the object is valid
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ValidityMask validateAll(List<T> toValidate) {
+        if(!(toValidate instanceof RandomAccess))
+            return validateAll((T[]) toValidate.toArray());
+
+        long[] words = ValidityMask.allValidWords(toValidate.size());
+        for(Predicate<T> predicate : predicates){
+            for(int w = 0; w < words.length; w++){
+                long word = words[w];
+                for(long remaining = word; remaining != 0; remaining &= remaining - 1){
+                    int bit = Long.numberOfTrailingZeros(remaining);
+                    if(!predicate.test(toValidate.get((w << 6) + bit)))
+                        word &= ~(1L << bit);
+                }
+                words[w] = word;
+            }
+        }
+        return new ValidityMask(words,toValidate.size());
+    }
+
+    /**
+     * validates every object of the array, one condition at a time over the whole batch.
+     * Objects which already failed a condition are skipped
+     *
+     * @param toValidate the objects to validate
+     * @return a mask with one bit per object, set if the object is valid
+     */
+    @Override
+    public ValidityMask validateAll(T[] toValidate) {
+        long[] words = ValidityMask.allValidWords(toValidate.length);
+        for(Predicate<T> predicate : predicates){
+            for(int w = 0; w < words.length; w++){
+                long word = words[w];
+                for(long remaining = word; remaining != 0; remaining &= remaining - 1){
+                    int bit = Long.numberOfTrailingZeros(remaining);
+                    if(!predicate.test(toValidate[(w << 6) + bit]))
+                        word &= ~(1L << bit);
+                }
+                words[w] = word;
+            }
+        }
+        return new ValidityMask(words,toValidate.length);
+    }
+}
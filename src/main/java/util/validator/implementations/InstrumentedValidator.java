@@ -0,0 +1,69 @@
+package util.validator.implementations;
+
+import util.validator.instrumentation.ConditionRecorder;
+import util.validator.instrumentation.ConditionStatistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Validator which records how often every condition is evaluated, how often it fails and how long it takes.
+ * The conditions of one key are compiled into one condition, so they are recorded together.
+ * <p>
+ * Only validators created by buildInstrumented() record anything, the other validators don't pay for it
+ * @param <T> the type of the object to validate
+ */
+public class InstrumentedValidator<T> extends AbstractValidator<T> {
+    private final Predicate<T>[] predicates;
+    private final ConditionRecorder[] recorders;
+
+    public InstrumentedValidator(Predicate<T>[] predicates){
+        this.predicates = predicates.clone();
+        this.recorders = new ConditionRecorder[predicates.length];
+        for(int i = 0; i < predicates.length; i++){
+            recorders[i] = new ConditionRecorder();
+        }
+    }
+
+    /**
+     * returns if the object matches all the conditions
+     *
+     * @param toValidate the object to validate
+     * @return if the object is valid
+     */
+    @Override
+    public boolean validate(T toValidate) {
+        // the end of one evaluation is the start of the next one, so the clock is only read once per condition
+        long start = System.nanoTime();
+        for(int i = 0; i < predicates.length; i++){
+            boolean result = predicates[i].test(toValidate);
+            long end = System.nanoTime();
+            recorders[i].record(end - start,result);
+            if(!result)
+                return false;
+            start = end;
+        }
+        return true;
+    }
+
+    /**
+     * @return a snapshot of the statistics of every condition, in the order they are evaluated
+     */
+    public List<ConditionStatistics> statistics(){
+        List<ConditionStatistics> statistics = new ArrayList<>(recorders.length);
+        for(ConditionRecorder recorder : recorders){
+            statistics.add(recorder.snapshot());
+        }
+        return statistics;
+    }
+
+    /**
+     * removes all the recorded statistics
+     */
+    public void resetStatistics(){
+        for(ConditionRecorder recorder : recorders){
+            recorder.reset();
+        }
+    }
+}
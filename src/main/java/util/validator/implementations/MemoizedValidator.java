@@ -0,0 +1,238 @@
+package util.validator.implementations;
+
+import util.validator.Validator;
+import util.validator.instrumentation.CacheStatistics;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Validator which caches the results of another Validator, only use it for immutable objects.
+ * <p>
+ * The cache holds at most maxEntries results and evicts them with the CLOCK algorithm:
+ * every hit sets the referenced flag of the entry, a new entry replaces the first entry the clock hand finds
+ * without the flag, clearing the flags it passes. Lookups never lock, only misses do while they insert their result.
+ * With IDENTITY keys the results are found in an open addressing table by the identity hash code,
+ * so a lookup allocates nothing.
+ * <p>
+ * Results expire expireAfter after they were validated
+ * @param <T> the type of the object to validate
+ */
+public class MemoizedValidator<T> extends AbstractValidator<T> {
+
+    /**
+     * how objects are compared to find their cached result
+     */
+    public enum Keys {
+        /**
+         * objects are the same if they are equal, needs a consistent hashCode()
+         */
+        EQUALITY,
+        /**
+         * objects are only the same if they are the same instance
+         */
+        IDENTITY
+    }
+
+    private static final int MAX_IDENTITY_ENTRIES = 1 << 28;
+
+    private final Validator<T> validator;
+    private final long expireAfterNanos;
+    // EQUALITY keys
+    private final ConcurrentHashMap<Object,Entry> cache;
+    // IDENTITY keys, written under the lock
+    private final AtomicReferenceArray<Entry> identityTable;
+    private final int identityMask;
+    private int identitySize;
+    private final Entry[] clock;
+    private int hand;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param validator the validator whose results are cached
+     * @param maxEntries the maximum number of cached results
+     * @param expireAfter how long a result stays valid
+     * @param keys how objects are compared
+     */
+    public MemoizedValidator(Validator<T> validator, int maxEntries, Duration expireAfter, Keys keys){
+        if(maxEntries < 1)
+            throw new IllegalArgumentException("maxEntries must be positive");
+        if(expireAfter.isNegative() || expireAfter.isZero())
+            throw new IllegalArgumentException("expireAfter must be positive");
+        if(keys == Keys.IDENTITY && maxEntries > MAX_IDENTITY_ENTRIES)
+            throw new IllegalArgumentException("maxEntries must be at most " + MAX_IDENTITY_ENTRIES + " for identity keys");
+        this.validator = validator;
+        this.expireAfterNanos = saturatedNanos(expireAfter);
+        this.clock = new Entry[maxEntries];
+        if(keys == Keys.IDENTITY){
+            // at most half full, so every probe ends at an empty slot
+            int capacity = Integer.highestOneBit(maxEntries) << 2;
+            this.cache = null;
+            this.identityTable = new AtomicReferenceArray<>(capacity);
+            this.identityMask = capacity - 1;
+        }
+        else{
+            this.cache = new ConcurrentHashMap<>(Math.min(maxEntries,1 << 16));
+            this.identityTable = null;
+            this.identityMask = 0;
+        }
+    }
+
+    private static long saturatedNanos(Duration duration){
+        try{
+            return duration.toNanos();
+        }
+        catch (ArithmeticException e){
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * returns if the object matches all the conditions, from the cache if it was validated before
+     *
+     * @param toValidate the object to validate
+     * @return if the object is valid
+     */
+    @Override
+    public boolean validate(T toValidate) {
+        if(toValidate == null)
+            return validator.validate(null);
+        Entry entry = get(toValidate);
+        if(entry != null && System.nanoTime() - entry.validatedAt < expireAfterNanos){
+            if(!entry.referenced)
+                entry.referenced = true;
+            hits.increment();
+            return entry.valid;
+        }
+        misses.increment();
+        long validatedAt = System.nanoTime();
+        boolean valid = validator.validate(toValidate);
+        insert(new Entry(toValidate,valid,validatedAt));
+        return valid;
+    }
+
+    private synchronized void insert(Entry entry){
+        Entry previous = get(entry.key);
+        if(previous != null){
+            // an expired result or one another thread just inserted, replace it in its slot
+            entry.slot = previous.slot;
+            clock[entry.slot] = entry;
+            put(entry);
+            return;
+        }
+        while(true){
+            Entry candidate = clock[hand];
+            if(candidate == null || !candidate.referenced)
+                break;
+            candidate.referenced = false;
+            hand = (hand + 1) % clock.length;
+        }
+        Entry victim = clock[hand];
+        if(victim != null){
+            remove(victim);
+            evictions.increment();
+        }
+        entry.slot = hand;
+        clock[hand] = entry;
+        put(entry);
+        hand = (hand + 1) % clock.length;
+    }
+
+    private Entry get(Object key){
+        if(identityTable == null)
+            return cache.get(key);
+        for(int i = home(key), probes = 0; probes <= identityMask; i = (i + 1) & identityMask, probes++){
+            Entry entry = identityTable.get(i);
+            if(entry == null)
+                return null;
+            if(entry.key == key)
+                return entry;
+        }
+        return null;
+    }
+
+    private void put(Entry entry){
+        if(identityTable == null){
+            cache.put(entry.key,entry);
+            return;
+        }
+        int i = home(entry.key);
+        while(true){
+            Entry current = identityTable.get(i);
+            if(current == null || current.key == entry.key){
+                if(current == null)
+                    identitySize++;
+                identityTable.set(i,entry);
+                return;
+            }
+            i = (i + 1) & identityMask;
+        }
+    }
+
+    /**
+     * removes the entry, for identity keys the following entries of the probe sequence are shifted back.
+     * A concurrent lookup may miss an entry while it is shifted, which only costs a validation
+     */
+    private void remove(Entry entry){
+        if(identityTable == null){
+            cache.remove(entry.key,entry);
+            return;
+        }
+        int i = home(entry.key);
+        while(identityTable.get(i) != entry){
+            i = (i + 1) & identityMask;
+        }
+        for(int j = (i + 1) & identityMask; ; j = (j + 1) & identityMask){
+            Entry next = identityTable.get(j);
+            if(next == null)
+                break;
+            int k = home(next.key);
+            // next stays if its home is cyclically within (i,j]
+            if(i <= j ? (i < k && k <= j) : (i < k || k <= j))
+                continue;
+            identityTable.set(i,next);
+            i = j;
+        }
+        identityTable.set(i,null);
+        identitySize--;
+    }
+
+    private int home(Object key){
+        int hash = System.identityHashCode(key);
+        return (hash ^ (hash >>> 16)) & identityMask;
+    }
+
+    /**
+     * @return a snapshot of the hits, misses and evictions so far
+     */
+    public CacheStatistics statistics(){
+        return new CacheStatistics(hits.sum(),misses.sum(),evictions.sum());
+    }
+
+    /**
+     * @return the number of cached results, including expired ones which weren't replaced yet
+     */
+    public synchronized int size(){
+        return identityTable == null ? cache.size() : identitySize;
+    }
+
+    private static final class Entry {
+        private final Object key;
+        private final boolean valid;
+        private final long validatedAt;
+        // only used under the lock
+        private int slot;
+        // benign race, a lost update only makes the entry a little more likely to be evicted
+        private volatile boolean referenced;
+
+        private Entry(Object key, boolean valid, long validatedAt){
+            this.key = key;
+            this.valid = valid;
+            this.validatedAt = validatedAt;
+        }
+    }
+}
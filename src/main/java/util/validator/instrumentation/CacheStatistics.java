@@ -0,0 +1,18 @@
+package util.validator.instrumentation;
+
+/**
+ * Snapshot of the statistics of a memoizing validator
+ * @param hits how often a cached result was returned
+ * @param misses how often the object had to be validated
+ * @param evictions how often a cached result was removed to make room for a new one
+ */
+public record CacheStatistics(long hits, long misses, long evictions) {
+
+    /**
+     * @return the share of validations answered from the cache, 0 if nothing was validated
+     */
+    public double hitRate(){
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
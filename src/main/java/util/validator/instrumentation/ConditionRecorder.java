@@ -0,0 +1,41 @@
+package util.validator.instrumentation;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the evaluations, failures and latencies of one condition.
+ * All counters are striped, so it can be shared between threads
+ */
+public final class ConditionRecorder {
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    /**
+     * records one evaluation of the condition
+     * @param nanos how long the evaluation took
+     * @param passed if the object matched the condition
+     */
+    public void record(long nanos, boolean passed){
+        evaluations.increment();
+        if(!passed)
+            failures.increment();
+        latencies.record(nanos);
+    }
+
+    /**
+     * @return a snapshot of everything recorded so far
+     */
+    public ConditionStatistics snapshot(){
+        return new ConditionStatistics(evaluations.sum(),failures.sum(),latencies.snapshot());
+    }
+
+    /**
+     * removes everything recorded so far
+     */
+    public void reset(){
+        evaluations.reset();
+        failures.reset();
+        latencies.reset();
+    }
+}
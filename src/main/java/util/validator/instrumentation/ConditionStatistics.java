@@ -0,0 +1,17 @@
+package util.validator.instrumentation;
+
+/**
+ * Snapshot of the statistics of one condition
+ * @param evaluations how often the condition was evaluated
+ * @param failures how often an object didn't match the condition
+ * @param latencies the latencies of the evaluations
+ */
+public record ConditionStatistics(long evaluations, long failures, LatencySnapshot latencies) {
+
+    /**
+     * @return the share of evaluations which failed, 0 if the condition was never evaluated
+     */
+    public double failureRate(){
+        return evaluations == 0 ? 0 : (double) failures / evaluations;
+    }
+}
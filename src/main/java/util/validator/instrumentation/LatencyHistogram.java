@@ -0,0 +1,70 @@
+package util.validator.instrumentation;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent histogram of latencies in nanoseconds with log-linear buckets, like an HdrHistogram
+ * with one significant digit: every power of two is split into 8 buckets, so a recorded value is off by at most 12.5%.
+ * Every bucket is a LongAdder, so threads recording at the same time don't contend
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+    public LatencyHistogram(){
+        for(int i = 0; i < BUCKETS; i++){
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * records one latency, negative values are recorded as 0
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos){
+        buckets[bucket(Math.max(nanos,0))].increment();
+    }
+
+    /**
+     * @return a snapshot of the recorded latencies, recording may continue while it is taken
+     */
+    public LatencySnapshot snapshot(){
+        long[] counts = new long[BUCKETS];
+        for(int i = 0; i < BUCKETS; i++){
+            counts[i] = buckets[i].sum();
+        }
+        return new LatencySnapshot(counts);
+    }
+
+    /**
+     * removes all the recorded latencies
+     */
+    public void reset(){
+        for(LongAdder bucket : buckets){
+            bucket.reset();
+        }
+    }
+
+    static int bucket(long value){
+        if(value < SUB_BUCKETS)
+            return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * @return the highest value which is recorded in the bucket
+     */
+    static long highestValue(int bucket){
+        if(bucket < SUB_BUCKETS)
+            return bucket;
+        int exponent = (bucket - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+        long subBucket = SUB_BUCKETS + (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return subBucket * width + width - 1;
+    }
+}
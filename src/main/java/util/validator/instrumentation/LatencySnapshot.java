@@ -0,0 +1,63 @@
+package util.validator.instrumentation;
+
+/**
+ * Immutable snapshot of a LatencyHistogram
+ */
+public final class LatencySnapshot {
+    private final long[] counts;
+    private final long totalCount;
+
+    LatencySnapshot(long[] counts){
+        this.counts = counts;
+        long totalCount = 0;
+        for(long count : counts){
+            totalCount += count;
+        }
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * @return the number of recorded latencies
+     */
+    public long totalCount(){
+        return totalCount;
+    }
+
+    /**
+     * returns the latency which percentile percent of the recorded latencies don't exceed,
+     * rounded up to the end of its bucket
+     * @param percentile the percentile between 0 and 100
+     * @return the latency in nanoseconds, 0 if nothing was recorded
+     */
+    public long valueAtPercentile(double percentile){
+        if(percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        if(totalCount == 0)
+            return 0;
+        long rank = Math.max(1,(long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for(int i = 0; i < counts.length; i++){
+            seen += counts[i];
+            if(seen >= rank)
+                return LatencyHistogram.highestValue(i);
+        }
+        return maxValue();
+    }
+
+    /**
+     * @return the highest recorded latency, rounded up to the end of its bucket
+     */
+    public long maxValue(){
+        for(int i = counts.length - 1; i >= 0; i--){
+            if(counts[i] != 0)
+                return LatencyHistogram.highestValue(i);
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencySnapshot{count=" + totalCount + ", p50=" + valueAtPercentile(50) + ", p99=" + valueAtPercentile(99)
+                + ", max=" + maxValue() + "}";
+    }
+}
@@ -0,0 +1,56 @@
+package util.validator.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Flight Recorder event for one allValid() call, only committed if it takes at least 1 ms by default.
+ * Check {@link #enabled()} before creating one, so batches don't allocate it if no recording is running
+ */
+@Name("util.validator.BatchValidation")
+@Label("Batch Validation")
+@Category("Validator")
+@Description("An allValid() call over a collection")
+@Threshold("1 ms")
+@StackTrace(false)
+public final class BatchValidationEvent extends Event {
+    private static final BatchValidationEvent PROBE = new BatchValidationEvent();
+
+    @Label("Validator")
+    Class<?> validator;
+
+    @Label("Size")
+    int size;
+
+    @Label("Parallel")
+    boolean parallel;
+
+    @Label("Valid")
+    boolean valid;
+
+    /**
+     * ends the batch and commits the event if it was slow enough
+     * @param validator the validator which validated the objects
+     * @param size the number of objects
+     * @param parallel if the objects were validated in parallel
+     * @param valid if all objects were valid
+     * @return valid
+     */
+    public boolean finish(Object validator, int size, boolean parallel, boolean valid){
+        end();
+        if(shouldCommit()){
+            this.validator = validator.getClass();
+            this.size = size;
+            this.parallel = parallel;
+            this.valid = valid;
+            commit();
+        }
+        return valid;
+    }
+
+    /**
+     * @return if a recording is running which records this event
+     */
+    public static boolean enabled(){
+        return PROBE.isEnabled();
+    }
+}
@@ -0,0 +1,42 @@
+package util.validator.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Flight Recorder event for one map key whose condition an object didn't match
+ */
+@Name("util.validator.MappedKeyFailure")
+@Label("Mapped Key Failure")
+@Category("Validator")
+@Description("An object didn't match the condition of a map key")
+@StackTrace(false)
+public final class MappedKeyFailureEvent extends Event {
+    private static final MappedKeyFailureEvent PROBE = new MappedKeyFailureEvent();
+
+    @Label("Validator")
+    Class<?> validator;
+
+    @Label("Key")
+    String key;
+
+    /**
+     * commits one event for every invalid key
+     * @param validator the validator which validated the object
+     * @param invalidKeys the keys of the conditions the object didn't match
+     */
+    public static void commitAll(Object validator, Iterable<?> invalidKeys){
+        for(Object key : invalidKeys){
+            var event = new MappedKeyFailureEvent();
+            event.validator = validator.getClass();
+            event.key = String.valueOf(key);
+            event.commit();
+        }
+    }
+
+    /**
+     * @return if a recording is running which records this event
+     */
+    public static boolean enabled(){
+        return PROBE.isEnabled();
+    }
+}
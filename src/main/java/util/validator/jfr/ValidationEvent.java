@@ -0,0 +1,70 @@
+package util.validator.jfr;
+
+import jdk.jfr.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Flight Recorder event for one validate() call.
+ * Only slow validations, which take at least the threshold, and a sample of the others are committed.
+ * <p>
+ * The threshold defaults to 100 us and is set by the system property util.validator.jfr.threshold in nanoseconds,
+ * one in util.validator.jfr.sampleRate validations is sampled, 1024 by default, 0 turns sampling off.
+ * If no recording is running, validations only pay for checking isEnabled() and don't allocate
+ */
+@Name("util.validator.Validation")
+@Label("Validation")
+@Category("Validator")
+@Description("A slow or sampled validation of one object")
+@StackTrace(false)
+public final class ValidationEvent extends Event {
+    static final long THRESHOLD_NANOS = Long.getLong("util.validator.jfr.threshold",100_000);
+    static final int SAMPLE_RATE = Integer.getInteger("util.validator.jfr.sampleRate",1024);
+    // shared by all validations while the event isn't recorded, so they don't allocate. It is never committed
+    private static final ValidationEvent NOT_RECORDING = new ValidationEvent();
+
+    @Label("Validator")
+    Class<?> validator;
+
+    @Label("Valid")
+    boolean valid;
+
+    @Label("Sampled")
+    @Description("If the validation was committed because it was sampled and not because it was slow")
+    boolean sampled;
+
+    private transient long startNanos;
+
+    /**
+     * creates the event for a validation which starts now
+     * @return the event
+     */
+    public static ValidationEvent start(){
+        if(!NOT_RECORDING.isEnabled())
+            return NOT_RECORDING;
+        var event = new ValidationEvent();
+        event.startNanos = System.nanoTime();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * ends the validation and commits the event if it was slow or sampled
+     * @param validator the validator which validated the object
+     * @param valid if the object was valid
+     * @return valid
+     */
+    public boolean finish(Object validator, boolean valid){
+        if(startNanos == 0 || !isEnabled())
+            return valid;
+        end();
+        boolean slow = System.nanoTime() - startNanos >= THRESHOLD_NANOS;
+        if(slow || SAMPLE_RATE > 0 && ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0){
+            this.validator = validator.getClass();
+            this.valid = valid;
+            this.sampled = !slow;
+            commit();
+        }
+        return valid;
+    }
+}
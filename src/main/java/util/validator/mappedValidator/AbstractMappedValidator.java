@@ -6,9 +6,14 @@ import java.util.Collection;
 
 public abstract class AbstractMappedValidator<T,K> extends AbstractValidator<T> implements MappedValidator<T,K> {
     @Override
+    public abstract MappedValidationResult<K> validateMapped(T toValidate);
+
+    @Override
+    @Deprecated
     public abstract Collection<K> lastInvalidKeys();
 
     @Override
+    @Deprecated
     public abstract Collection<K> lastValidKeys();
 
     @Override
@@ -22,6 +27,6 @@ public abstract class AbstractMappedValidator<T,K> extends AbstractValidator<T>
      */
     @Override
     public boolean validate(T toValidate) {
-        return false;
+        return validateMapped(toValidate).isValid();
     }
 }
@@ -0,0 +1,102 @@
+package util.validator.mappedValidator;
+
+import util.validator.jfr.MappedKeyFailureEvent;
+import util.validator.jfr.ValidationEvent;
+
+import java.util.*;
+
+/**
+ * Immutable MappedValidator created by the MappedValidatorBuilders.
+ * It only holds the compiled condition groups, no references to the builders.
+ * Every map key gets an ordinal when the validator is created, which is its bit in the results
+ * @param <T> the type of the object to validate
+ * @param <K> the type of the map keys
+ */
+public class CompiledMappedValidator<T,K> extends AbstractMappedValidator<T,K> {
+    protected final MappedPredicateGroup<T,K,?>[] groups;
+    protected final int[][] groupOrdinals;
+    protected final MappedKeyIndex<K> index;
+    private volatile MappedValidationResult<K> lastResult;
+
+    @SuppressWarnings("unchecked")
+    public CompiledMappedValidator(List<MappedPredicateGroup<T,K,?>> groups){
+        this.groups = groups.toArray(MappedPredicateGroup[]::new);
+        Set<K> keys = new LinkedHashSet<>();
+        for(var group : this.groups){
+            keys.addAll(group.getMapKeys());
+        }
+        this.index = new MappedKeyIndex<>(keys);
+        this.groupOrdinals = new int[this.groups.length][];
+        for(int g = 0; g < this.groups.length; g++){
+            List<K> mapKeys = this.groups[g].getMapKeys();
+            groupOrdinals[g] = new int[mapKeys.size()];
+            for(int i = 0; i < mapKeys.size(); i++){
+                groupOrdinals[g][i] = index.ordinal(mapKeys.get(i));
+            }
+        }
+    }
+
+    /**
+     * validates the object and returns the result of every mapped condition.
+     * The result belongs to this call only, so the validator can be shared between threads
+     *
+     * @param toValidate the object to validate
+     * @return the result of every condition
+     */
+    @Override
+    public MappedValidationResult<K> validateMapped(T toValidate) {
+        var event = ValidationEvent.start();
+        var result = test(toValidate);
+        event.finish(this,result.isValid());
+        if(!result.isValid() && MappedKeyFailureEvent.enabled())
+            MappedKeyFailureEvent.commitAll(this,result.invalidKeys());
+        return result;
+    }
+
+    private MappedValidationResult<K> test(T toValidate){
+        if(index.size() <= 64){
+            long bits = 0;
+            for(int g = 0; g < groups.length; g++){
+                bits = groups[g].test(toValidate,bits,groupOrdinals[g]);
+            }
+            return new MappedValidationResult<>(index,bits);
+        }
+        long[] words = new long[(index.size() + 63) >>> 6];
+        for(int g = 0; g < groups.length; g++){
+            groups[g].test(toValidate,words,groupOrdinals[g]);
+        }
+        return new MappedValidationResult<>(index,words);
+    }
+
+    @Override
+    @Deprecated
+    public Collection<K> lastInvalidKeys() {
+        var lastResult = this.lastResult;
+        return lastResult == null ? List.of() : lastResult.invalidKeys();
+    }
+
+    @Override
+    @Deprecated
+    public Collection<K> lastValidKeys() {
+        var lastResult = this.lastResult;
+        return lastResult == null ? List.of() : lastResult.validKeys();
+    }
+
+    @Override
+    public Collection<K> allKeys() {
+        return index.keySet();
+    }
+
+    /**
+     * returns if the object matches all the conditions
+     *
+     * @param toValidate the object to validate
+     * @return if the object is valid
+     */
+    @Override
+    public boolean validate(T toValidate) {
+        var result = validateMapped(toValidate);
+        lastResult = result;
+        return result.isValid();
+    }
+}
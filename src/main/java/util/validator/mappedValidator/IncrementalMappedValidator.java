@@ -0,0 +1,95 @@
+package util.validator.mappedValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * MappedValidator which can revalidate an object after a change,
+ * by only testing the conditions of the key extractors whose field changed.
+ * The last result of an object is held by the {@link IncrementalValidation} returned by {@link #track(Object)}
+ * @param <T> the type of the object to validate
+ * @param <K> the type of the map keys
+ */
+public class IncrementalMappedValidator<T,K> extends CompiledMappedValidator<T,K> {
+    // the groups testing a condition of the key, indexed by ordinal
+    private final int[][] keyGroups;
+    // the later groups sharing a key with the group, indexed by group
+    private final int[][] overlappingGroups;
+
+    public IncrementalMappedValidator(List<MappedPredicateGroup<T,K,?>> groups){
+        super(groups);
+        List<List<Integer>> keyGroups = new ArrayList<>();
+        for(int i = 0; i < index.size(); i++){
+            keyGroups.add(new ArrayList<>());
+        }
+        for(int g = 0; g < this.groups.length; g++){
+            for(int ordinal : groupOrdinals[g]){
+                keyGroups.get(ordinal).add(g);
+            }
+        }
+        this.keyGroups = new int[index.size()][];
+        for(int i = 0; i < this.keyGroups.length; i++){
+            this.keyGroups[i] = keyGroups.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+        this.overlappingGroups = new int[this.groups.length][];
+        for(int g = 0; g < this.groups.length; g++){
+            Set<Integer> later = new TreeSet<>();
+            for(int ordinal : groupOrdinals[g]){
+                for(int other : this.keyGroups[ordinal]){
+                    if(other > g)
+                        later.add(other);
+                }
+            }
+            overlappingGroups[g] = later.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * validates the object and returns a handle holding its result,
+     * which revalidates the object after it changed
+     * @param toValidate the object to validate
+     * @return the handle of the object
+     */
+    public IncrementalValidation<T,K> track(T toValidate){
+        return new IncrementalValidation<>(this,toValidate);
+    }
+
+    int groupCount(){
+        return groups.length;
+    }
+
+    int[] groupsOf(K mapKey){
+        int ordinal = index.ordinal(mapKey);
+        if(ordinal < 0)
+            throw new IllegalArgumentException("key doesn't exist");
+        return keyGroups[ordinal];
+    }
+
+    /**
+     * tests the conditions of the dirty groups and stores their result in the words.
+     * A key of more than one group gets the result of the last group in a full validation,
+     * so every later group sharing a key with a dirty group is tested again as well
+     */
+    void test(T toValidate, long[] words, boolean[] dirty){
+        for(int g = 0; g < groups.length; g++){
+            if(!dirty[g])
+                continue;
+            for(int later : overlappingGroups[g]){
+                dirty[later] = true;
+            }
+            groups[g].test(toValidate,words,groupOrdinals[g]);
+        }
+    }
+
+    MappedValidationResult<K> result(long[] words){
+        if(index.size() <= 64)
+            return new MappedValidationResult<>(index,words[0]);
+        return new MappedValidationResult<>(index,words.clone());
+    }
+
+    int wordCount(){
+        return Math.max(1,(index.size() + 63) >>> 6);
+    }
+}
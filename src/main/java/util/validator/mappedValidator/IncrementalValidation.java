@@ -0,0 +1,100 @@
+package util.validator.mappedValidator;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * The last result of one object validated by an IncrementalMappedValidator.
+ * A changed map key marks the key extractor of its condition as changed,
+ * revalidating then only tests the conditions of the changed key extractors.
+ * {@link #markChanged(Object)} can be registered as listener of the object's change notifications.
+ * <p>
+ * Not thread safe, the object mustn't change while it is revalidated
+ * @param <T> the type of the object to validate
+ * @param <K> the type of the map keys
+ */
+public final class IncrementalValidation<T,K> {
+    private final IncrementalMappedValidator<T,K> validator;
+    private final T object;
+    private final long[] words;
+    private final boolean[] dirty;
+    private boolean anyDirty;
+    private MappedValidationResult<K> result;
+
+    IncrementalValidation(IncrementalMappedValidator<T,K> validator, T object){
+        this.validator = validator;
+        this.object = object;
+        this.words = new long[validator.wordCount()];
+        this.dirty = new boolean[validator.groupCount()];
+        markAllChanged();
+        revalidate();
+    }
+
+    /**
+     * @return the tracked object
+     */
+    public T object(){
+        return object;
+    }
+
+    /**
+     * marks the key extractor of the condition mapped to the key as changed
+     * @param mapKey the map key of the condition
+     * @throws IllegalArgumentException if the key doesn't exist
+     */
+    public void markChanged(K mapKey){
+        for(int g : validator.groupsOf(mapKey)){
+            dirty[g] = true;
+        }
+        anyDirty = true;
+    }
+
+    /**
+     * marks every key extractor as changed
+     */
+    public void markAllChanged(){
+        Arrays.fill(dirty,true);
+        anyDirty = true;
+    }
+
+    /**
+     * @return if a key extractor was marked as changed since the last revalidation
+     */
+    public boolean isDirty(){
+        return anyDirty;
+    }
+
+    /**
+     * tests the conditions of all key extractors marked as changed
+     * @return the result of every condition
+     */
+    public MappedValidationResult<K> revalidate(){
+        if(!anyDirty)
+            return result;
+        validator.test(object,words,dirty);
+        Arrays.fill(dirty,false);
+        anyDirty = false;
+        result = validator.result(words);
+        return result;
+    }
+
+    /**
+     * marks the key extractors of the conditions mapped to the keys as changed and revalidates the object
+     * @param changedKeys the map keys of the changed conditions
+     * @return the result of every condition
+     * @throws IllegalArgumentException if a key doesn't exist
+     */
+    public MappedValidationResult<K> revalidate(Collection<K> changedKeys){
+        for(K key : changedKeys){
+            markChanged(key);
+        }
+        return revalidate();
+    }
+
+    /**
+     * @return the result of the last revalidation, changes marked since then aren't tested yet
+     */
+    public MappedValidationResult<K> lastResult(){
+        return result;
+    }
+}
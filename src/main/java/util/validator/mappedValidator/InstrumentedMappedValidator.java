@@ -0,0 +1,66 @@
+package util.validator.mappedValidator;
+
+import util.validator.instrumentation.ConditionRecorder;
+import util.validator.instrumentation.ConditionStatistics;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MappedValidator which records how often the condition of every map key is evaluated,
+ * how often it fails and how long it takes.
+ * <p>
+ * Only validators created by buildInstrumented() record anything, the other validators don't pay for it
+ * @param <T> the type of the object to validate
+ * @param <K> the type of the map keys
+ */
+public class InstrumentedMappedValidator<T,K> extends CompiledMappedValidator<T,K> {
+    private final ConditionRecorder[] recorders;
+
+    public InstrumentedMappedValidator(List<MappedPredicateGroup<T,K,?>> groups){
+        super(groups);
+        this.recorders = new ConditionRecorder[index.size()];
+        for(int i = 0; i < recorders.length; i++){
+            recorders[i] = new ConditionRecorder();
+        }
+    }
+
+    /**
+     * validates the object and returns the result of every mapped condition.
+     * The result belongs to this call only, so the validator can be shared between threads
+     *
+     * @param toValidate the object to validate
+     * @return the result of every condition
+     */
+    @Override
+    public MappedValidationResult<K> validateMapped(T toValidate) {
+        long[] words = new long[Math.max(1,(index.size() + 63) >>> 6)];
+        for(int g = 0; g < groups.length; g++){
+            groups[g].test(toValidate,words,groupOrdinals[g],recorders);
+        }
+        if(index.size() <= 64)
+            return new MappedValidationResult<>(index,words[0]);
+        return new MappedValidationResult<>(index,words);
+    }
+
+    /**
+     * @return a snapshot of the statistics of every map key, in insertion order
+     */
+    public Map<K,ConditionStatistics> statistics(){
+        Map<K,ConditionStatistics> statistics = new LinkedHashMap<>();
+        for(int i = 0; i < recorders.length; i++){
+            statistics.put(index.key(i),recorders[i].snapshot());
+        }
+        return statistics;
+    }
+
+    /**
+     * removes all the recorded statistics
+     */
+    public void resetStatistics(){
+        for(ConditionRecorder recorder : recorders){
+            recorder.reset();
+        }
+    }
+}
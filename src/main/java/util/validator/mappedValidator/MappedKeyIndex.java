@@ -0,0 +1,85 @@
+package util.validator.mappedValidator;
+
+import java.util.*;
+
+/**
+ * Immutable index of all map keys of a validator.
+ * Every key gets a dense ordinal, which is its bit in the results.
+ * If all keys are constants of the same enum, the ordinals are looked up through an array instead of a map
+ * @param <K> the type of the map keys
+ */
+final class MappedKeyIndex<K> {
+    private final K[] keys;
+    private final Map<K,Integer> ordinals;
+    private final Class<K> enumType;
+    private final int[] enumOrdinals;
+
+    @SuppressWarnings("unchecked")
+    MappedKeyIndex(Collection<K> keys){
+        this.keys = (K[]) keys.toArray();
+        Map<K,Integer> ordinals = new LinkedHashMap<>();
+        for(K key : this.keys){
+            ordinals.put(key,ordinals.size());
+        }
+        this.ordinals = Collections.unmodifiableMap(ordinals);
+        this.enumType = (Class<K>) enumType(this.keys);
+        if(enumType != null){
+            this.enumOrdinals = new int[enumType.getEnumConstants().length];
+            Arrays.fill(enumOrdinals,-1);
+            for(int i = 0; i < this.keys.length; i++){
+                enumOrdinals[((Enum<?>) this.keys[i]).ordinal()] = i;
+            }
+        }
+        else
+            this.enumOrdinals = null;
+    }
+
+    private static Class<?> enumType(Object[] keys){
+        if(keys.length == 0 || !(keys[0] instanceof Enum<?> first))
+            return null;
+        Class<?> enumType = first.getDeclaringClass();
+        for(Object key : keys){
+            if(!(key instanceof Enum<?> e) || e.getDeclaringClass() != enumType)
+                return null;
+        }
+        return enumType;
+    }
+
+    int size(){
+        return keys.length;
+    }
+
+    K key(int ordinal){
+        return keys[ordinal];
+    }
+
+    /**
+     * @param key the map key
+     * @return the ordinal of the key, or -1 if it doesn't exist
+     */
+    int ordinal(Object key){
+        if(enumOrdinals != null){
+            if(!enumType.isInstance(key))
+                return -1;
+            return enumOrdinals[((Enum<?>) key).ordinal()];
+        }
+        Integer ordinal = ordinals.get(key);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    boolean isEnum(){
+        return enumType != null;
+    }
+
+    /**
+     * @return an EnumSet of the given enum type without any constants, only call if {@link #isEnum()}
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Set<K> emptyEnumSet(){
+        return (Set<K>) EnumSet.noneOf((Class) enumType);
+    }
+
+    Set<K> keySet(){
+        return ordinals.keySet();
+    }
+}
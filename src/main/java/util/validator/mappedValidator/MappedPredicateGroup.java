@@ -0,0 +1,103 @@
+package util.validator.mappedValidator;
+
+import util.validator.instrumentation.ConditionRecorder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Immutable group of mapped conditions which all share the same keyExtractor.
+ * The key is only extracted once per validated object
+ * @param <T> the type of the object to validate
+ * @param <K> the type of the map keys
+ * @param <R> the type of the extracted key
+ */
+public final class MappedPredicateGroup<T,K,R> {
+    private final Function<T,R> keyExtractor;
+    private final List<K> mapKeys;
+    private final Predicate<R>[] predicates;
+
+    @SuppressWarnings("unchecked")
+    public MappedPredicateGroup(Function<T,R> keyExtractor, Map<K,Predicate<R>> predicates){
+        this.keyExtractor = keyExtractor;
+        this.mapKeys = Collections.unmodifiableList(new ArrayList<>(predicates.keySet()));
+        this.predicates = predicates.values().toArray(Predicate[]::new);
+    }
+
+    /**
+     * tests all conditions of this group and stores their result in the bits,
+     * only for validators with at most 64 keys
+     * @param toValidate the object to validate
+     * @param bits the results so far, one bit per key ordinal
+     * @param ordinals the ordinal of every map key of this group, in insertion order
+     * @return the results including the ones of this group
+     */
+    public long test(T toValidate, long bits, int[] ordinals){
+        if(predicates.length == 0)
+            return bits;
+        R key = keyExtractor.apply(toValidate);
+        for(int i = 0; i < predicates.length; i++){
+            long bit = 1L << ordinals[i];
+            bits = predicates[i].test(key) ? bits | bit : bits & ~bit;
+        }
+        return bits;
+    }
+
+    /**
+     * tests all conditions of this group and stores their result in the words
+     * @param toValidate the object to validate
+     * @param words the results, one bit per key ordinal
+     * @param ordinals the ordinal of every map key of this group, in insertion order
+     */
+    public void test(T toValidate, long[] words, int[] ordinals){
+        if(predicates.length == 0)
+            return;
+        R key = keyExtractor.apply(toValidate);
+        for(int i = 0; i < predicates.length; i++){
+            int ordinal = ordinals[i];
+            long bit = 1L << ordinal;
+            if(predicates[i].test(key))
+                words[ordinal >>> 6] |= bit;
+            else
+                words[ordinal >>> 6] &= ~bit;
+        }
+    }
+
+    /**
+     * tests all conditions of this group, stores their result in the words
+     * and records every evaluation in the recorder of its key
+     * @param toValidate the object to validate
+     * @param words the results, one bit per key ordinal
+     * @param ordinals the ordinal of every map key of this group, in insertion order
+     * @param recorders the recorder of every key, indexed by ordinal
+     */
+    public void test(T toValidate, long[] words, int[] ordinals, ConditionRecorder[] recorders){
+        if(predicates.length == 0)
+            return;
+        R key = keyExtractor.apply(toValidate);
+        long start = System.nanoTime();
+        for(int i = 0; i < predicates.length; i++){
+            int ordinal = ordinals[i];
+            long bit = 1L << ordinal;
+            boolean result = predicates[i].test(key);
+            long end = System.nanoTime();
+            recorders[ordinal].record(end - start,result);
+            start = end;
+            if(result)
+                words[ordinal >>> 6] |= bit;
+            else
+                words[ordinal >>> 6] &= ~bit;
+        }
+    }
+
+    /**
+     * @return an unmodifiable list of the map keys of this group in insertion order
+     */
+    public List<K> getMapKeys(){
+        return mapKeys;
+    }
+}
@@ -0,0 +1,165 @@
+package util.validator.mappedValidator;
+
+import java.util.*;
+
+/**
+ * Immutable result of validating one object with a MappedValidator.
+ * It is created per call, so it can be read from any thread.
+ * The result of every key is one bit, indexed by the ordinal the key got when the validator was built
+ * @param <K> the type of the map keys
+ */
+public final class MappedValidationResult<K> {
+    private final MappedKeyIndex<K> index;
+    private final long bits;
+    private final long[] words;
+    private final boolean valid;
+
+    /**
+     * result of a validator with at most 64 keys
+     */
+    MappedValidationResult(MappedKeyIndex<K> index, long bits){
+        this.index = index;
+        this.bits = bits;
+        this.words = null;
+        this.valid = bits == lastWordMask(index.size());
+    }
+
+    /**
+     * result of a validator with more than 64 keys
+     */
+    MappedValidationResult(MappedKeyIndex<K> index, long[] words){
+        this.index = index;
+        this.bits = words[0];
+        this.words = words;
+        boolean valid = words[words.length - 1] == lastWordMask(index.size());
+        for(int i = 0; valid && i < words.length - 1; i++){
+            valid = words[i] == -1L;
+        }
+        this.valid = valid;
+    }
+
+    private static long lastWordMask(int size){
+        return (size & 63) == 0 && size != 0 ? -1L : (1L << size) - 1;
+    }
+
+    private int wordCount(){
+        return words == null ? 1 : words.length;
+    }
+
+    private long word(int w){
+        return words == null ? bits : words[w];
+    }
+
+    /**
+     * @return if the object matched all the conditions
+     */
+    public boolean isValid(){
+        return valid;
+    }
+
+    /**
+     * @param key the map key of the condition
+     * @return if the object matched the condition mapped to the key
+     * @throws IllegalArgumentException if the key doesn't exist
+     */
+    public boolean isValid(K key){
+        int ordinal = index.ordinal(key);
+        if(ordinal < 0)
+            throw new IllegalArgumentException("key doesn't exist");
+        return (word(ordinal >>> 6) & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * @return the keys of all conditions the object didn't match, in insertion order.
+     * If all keys are constants of the same enum, it is an EnumSet in ordinal order
+     */
+    public Set<K> invalidKeys(){
+        return keys(false);
+    }
+
+    /**
+     * @return the keys of all conditions the object matched, in insertion order.
+     * If all keys are constants of the same enum, it is an EnumSet in ordinal order
+     */
+    public Set<K> validKeys(){
+        return keys(true);
+    }
+
+    /**
+     * @return all keys of the validator
+     */
+    public Set<K> allKeys(){
+        return index.keySet();
+    }
+
+    private Set<K> keys(boolean valid){
+        if(index.isEnum()){
+            Set<K> keys = index.emptyEnumSet();
+            for(int w = 0; w < wordCount(); w++){
+                for(long word = selected(w,valid); word != 0; word &= word - 1){
+                    keys.add(index.key((w << 6) + Long.numberOfTrailingZeros(word)));
+                }
+            }
+            return Collections.unmodifiableSet(keys);
+        }
+        return new KeyView(valid);
+    }
+
+    private long selected(int w, boolean valid){
+        if(valid)
+            return word(w);
+        long mask = w == wordCount() - 1 ? lastWordMask(index.size()) : -1L;
+        return ~word(w) & mask;
+    }
+
+    /**
+     * Set view of the valid or invalid keys, which iterates the bits of the result
+     */
+    private final class KeyView extends AbstractSet<K> {
+        private final boolean valid;
+
+        private KeyView(boolean valid){
+            this.valid = valid;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            int ordinal = index.ordinal(o);
+            return ordinal >= 0 && ((selected(ordinal >>> 6,valid) & (1L << ordinal)) != 0);
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for(int w = 0; w < wordCount(); w++){
+                size += Long.bitCount(selected(w,valid));
+            }
+            return size;
+        }
+
+        @Override
+        public Iterator<K> iterator() {
+            return new Iterator<>() {
+                private int w = 0;
+                private long word = selected(0,valid);
+
+                @Override
+                public boolean hasNext() {
+                    while(word == 0 && w < wordCount() - 1){
+                        word = selected(++w,valid);
+                    }
+                    return word != 0;
+                }
+
+                @Override
+                public K next() {
+                    if(!hasNext())
+                        throw new NoSuchElementException();
+                    int ordinal = (w << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    return index.key(ordinal);
+                }
+            };
+        }
+    }
+}
@@ -6,8 +6,26 @@ import java.util.Collection;
 
 public interface MappedValidator<T,K> extends Validator<T> {
 
+    /**
+     * validates the object and returns the result of every mapped condition.
+     * The result belongs to this call only, so the validator can be shared between threads
+     * @param toValidate the object to validate
+     * @return the result of every condition
+     */
+    MappedValidationResult<K> validateMapped(T toValidate);
+
+    /**
+     * @return the keys of the conditions the last validated object didn't match
+     * @deprecated the last result is shared between all threads, use {@link #validateMapped(Object)}
+     */
+    @Deprecated
     Collection<K> lastInvalidKeys();
 
+    /**
+     * @return the keys of the conditions the last validated object matched
+     * @deprecated the last result is shared between all threads, use {@link #validateMapped(Object)}
+     */
+    @Deprecated
     Collection<K> lastValidKeys();
 
     Collection<K> allKeys();
@@ -1,7 +1,9 @@
 package util.validator.mappedValidator.mappedValidatorBuilder;
 
 
-import util.validator.Validator;
+import util.validator.mappedValidator.IncrementalMappedValidator;
+import util.validator.mappedValidator.InstrumentedMappedValidator;
+import util.validator.mappedValidator.MappedValidator;
 
 
 import java.util.function.*;
@@ -9,6 +11,9 @@ import java.util.function.*;
 public interface MappedValidatorBuilder<T,K,R>{
 
 
+    static <T,K,R> MappedValidatorBuilder<T,K,R> getInstance(Function<T,R> keyExtractor){
+        return new SimpleMappedValidtatorBuilder<>(keyExtractor);
+    }
 
     /**
      * adds a new Condition mapped to the given mapKey
@@ -30,6 +35,21 @@ public interface MappedValidatorBuilder<T,K,R>{
      * Builds a Validator from this MappedValidatorBuilder objects
      * @return a build Validator
      */
-    Validator<T> build();
+    MappedValidator<T,K> build();
+
+    /**
+     * Builds a Validator which records how often the condition of every map key is evaluated,
+     * how often it fails and how long it takes.
+     * build() creates Validators without any instrumentation
+     * @return a build Validator
+     */
+    InstrumentedMappedValidator<T,K> buildInstrumented();
+
+    /**
+     * Builds a Validator which revalidates a tracked object after a change,
+     * by only testing the conditions of the key extractors whose field changed
+     * @return a build Validator
+     */
+    IncrementalMappedValidator<T,K> buildIncremental();
 
 }
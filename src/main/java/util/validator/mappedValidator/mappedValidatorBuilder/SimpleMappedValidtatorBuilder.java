@@ -1,21 +1,28 @@
 package util.validator.mappedValidator.mappedValidatorBuilder;
 
-import util.validator.Validator;
-import util.validator.mappedValidator.AbstractMappedValidator;
+import util.validator.mappedValidator.CompiledMappedValidator;
+import util.validator.mappedValidator.IncrementalMappedValidator;
+import util.validator.mappedValidator.InstrumentedMappedValidator;
+import util.validator.mappedValidator.MappedPredicateGroup;
+import util.validator.mappedValidator.MappedValidator;
 
 import java.util.*;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 public class SimpleMappedValidtatorBuilder<T,K,R> extends AbstractMappedValidatorBuilder<T,K,R> {
 
     private final Map<K,Predicate<R>> predicateHolder = new LinkedHashMap<>();
-    private final List<AbstractMappedValidatorBuilder<T,K,?>> previousBuilders = new ArrayList<>();
+    private final List<MappedPredicateGroup<T,K,?>> previousGroups;
     private final Function<T,R> keyExtractor;
 
-    private SimpleMappedValidtatorBuilder(AbstractMappedValidatorBuilder<T,K,?> previousBuilder,Function<T,R> keyExtractor){
-        this.previousBuilders.add(previousBuilder);
+    public SimpleMappedValidtatorBuilder(Function<T,R> keyExtractor){
+        this.previousGroups = new ArrayList<>();
+        this.keyExtractor = keyExtractor;
+    }
+
+    private SimpleMappedValidtatorBuilder(SimpleMappedValidtatorBuilder<T,K,?> previousBuilder,Function<T,R> keyExtractor){
+        this.previousGroups = previousBuilder.compile();
         this.keyExtractor = keyExtractor;
     }
 
@@ -59,51 +66,43 @@ public class SimpleMappedValidtatorBuilder<T,K,R> extends AbstractMappedValidato
         return predicateHolder.keySet();
     }
 
+    private List<MappedPredicateGroup<T,K,?>> compile(){
+        List<MappedPredicateGroup<T,K,?>> groups = new ArrayList<>(previousGroups);
+        groups.add(new MappedPredicateGroup<>(keyExtractor,predicateHolder));
+        return groups;
+    }
+
     /**
      * Builds a Validator from this MappedValidatorBuilder objects
      *
      * @return a build Validator
      */
     @Override
-    public Validator<T> build() {
-        return new AbstractMappedValidator<T,K>(){
-            private Map<K,Boolean> keys = new LinkedHashMap<>();
-
-            @Override
-            public Collection<K> lastInvalidKeys() {
-                return keys.entrySet().stream()
-                        .filter(e -> !e.getValue())
-                        .map(Map.Entry::getKey)
-                        .collect(Collectors.toList());
-            }
-
-            @Override
-            public Collection<K> lastValidKeys() {
-                return keys.entrySet().stream()
-                        .filter(Map.Entry::getValue)
-                        .map(Map.Entry::getKey)
-                        .collect(Collectors.toList());
-            }
-
-            @Override
-            public Collection<K> allKeys() {
-                return keys.keySet();
-            }
-
-            @Override
-            public boolean validate(T toValidate) {
-                keys.clear();
-                for(var builder : previousBuilders){
-                   for(var key : builder.getKeys()){
-                       keys.put(key,builder.testKey(key,toValidate));
-                   }
-                }
-                for(var entry : predicateHolder.entrySet()){
-                    keys.put(entry.getKey(),entry.getValue().test(keyExtractor.apply(toValidate)));
-                }
-                return keys.values().stream().allMatch(p -> p);
-            }
-        };
+    public MappedValidator<T,K> build() {
+        return new CompiledMappedValidator<>(compile());
+    }
+
+    /**
+     * Builds a Validator which records how often the condition of every map key is evaluated,
+     * how often it fails and how long it takes.
+     * build() creates Validators without any instrumentation
+     *
+     * @return a build Validator
+     */
+    @Override
+    public InstrumentedMappedValidator<T,K> buildInstrumented() {
+        return new InstrumentedMappedValidator<>(compile());
+    }
+
+    /**
+     * Builds a Validator which revalidates a tracked object after a change,
+     * by only testing the conditions of the key extractors whose field changed
+     *
+     * @return a build Validator
+     */
+    @Override
+    public IncrementalMappedValidator<T,K> buildIncremental() {
+        return new IncrementalMappedValidator<>(compile());
     }
 
 
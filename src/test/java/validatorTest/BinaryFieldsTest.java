@@ -0,0 +1,94 @@
+package validatorTest;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.*;
+import util.validator.Validator;
+import util.validator.ValidityMask;
+import util.validator.binary.BinaryFields;
+import util.validator.builder.numbervalidatorbuilder.implementations.IntValidatorBuilderImpl;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryFieldsTest {
+    // type:byte, padding, quantity:short at 2, instrument:int at 4, sequence:long at 8, price:double at 16
+    private static final int RECORD_LENGTH = 24;
+
+    private final Validator<ByteBuffer> validator = new IntValidatorBuilderImpl<>(BinaryFields.byteAt(0))
+            .inRangeInclusive(1,3)
+            .intKey(BinaryFields.shortAt(2))
+            .positive()
+            .intKey(BinaryFields.intAt(4))
+            .greaterOrEqualThan(0)
+            .longKey(BinaryFields.longAt(8))
+            .positive()
+            .doubleKey(BinaryFields.doubleAt(16))
+            .greaterThan(0.0)
+            .build();
+
+    private static void putRecord(ByteBuffer buffer, int index, int type, int quantity, int instrument, long sequence, double price){
+        int start = index * RECORD_LENGTH;
+        buffer.put(start,(byte) type);
+        buffer.putShort(start + 2,(short) quantity);
+        buffer.putInt(start + 4,instrument);
+        buffer.putLong(start + 8,sequence);
+        buffer.putDouble(start + 16,price);
+    }
+
+    @Test
+    void singleRecordTest(){
+        ByteBuffer buffer = ByteBuffer.allocateDirect(RECORD_LENGTH);
+        putRecord(buffer,0,1,100,7,1,101.25);
+        assertTrue(validator.validate(buffer));
+        buffer.putDouble(16,Double.NaN);
+        assertFalse(validator.validate(buffer));
+    }
+
+    @Test
+    void byteOrderTest(){
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+        putRecord(buffer,0,2,1,-1,1,1.0);
+        assertFalse(validator.validate(buffer));
+        buffer.putInt(4,0x0100_0000);
+        assertTrue(validator.validate(buffer));
+        assertEquals(1,BinaryFields.intAt(4).applyAsInt(buffer.order(ByteOrder.BIG_ENDIAN)));
+    }
+
+    @Test
+    void validateRecordsTest(){
+        ByteBuffer buffer = ByteBuffer.allocateDirect(RECORD_LENGTH * 100 + 5).order(ByteOrder.LITTLE_ENDIAN);
+        for(int i = 0; i < 100; i++){
+            putRecord(buffer,i,i % 10 == 0 ? 4 : 1,10,i,i + 1,1.5);
+        }
+        buffer.position(RECORD_LENGTH);
+        ValidityMask mask = BinaryFields.validateRecords(validator,buffer,RECORD_LENGTH);
+        assertEquals(99,mask.size());
+        assertEquals(90,mask.validCount());
+        assertEquals(9,mask.nextInvalid(0));
+        assertEquals(RECORD_LENGTH,buffer.position());
+        assertThrows(IllegalArgumentException.class,() -> BinaryFields.validateRecords(validator,buffer,0));
+        assertThrows(IllegalArgumentException.class,() -> BinaryFields.intAt(-1));
+    }
+
+    @Test
+    void noAllocationOnValidate(){
+        var threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(RECORD_LENGTH);
+        putRecord(buffer,0,3,5,42,9,0.5);
+        int iterations = 100_000;
+
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for(int i = 0; i < iterations; i++){
+            Assertions.assertTrue(validator.validate(buffer));
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        Assertions.assertTrue(allocated < iterations, "allocated " + allocated + " bytes");
+    }
+}
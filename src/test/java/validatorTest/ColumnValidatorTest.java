@@ -0,0 +1,162 @@
+package validatorTest;
+
+import org.junit.jupiter.api.*;
+import util.validator.ValidityMask;
+import util.validator.builder.numbervalidatorbuilder.DoubleValidatorBuilder;
+import util.validator.builder.numbervalidatorbuilder.IntValidatorBuilder;
+import util.validator.builder.numbervalidatorbuilder.LongValidatorBuilder;
+import util.validator.builder.numbervalidatorbuilder.implementations.IntValidatorBuilderImpl;
+import util.validator.column.DoubleColumnValidator;
+import util.validator.column.IntColumnValidator;
+import util.validator.column.LongColumnValidator;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ColumnValidatorTest {
+
+    @Test
+    void intColumnTest(){
+        IntValidatorBuilder<Integer> builder = IntValidatorBuilder.forColumn();
+        builder.inRange(0,100);
+        builder.validatingInt(x -> x % 2 == 0);
+        IntColumnValidator validator = builder.buildColumn();
+
+        IntBuffer column = IntBuffer.wrap(new int[]{-1,0,1,2,99,100,50,Integer.MIN_VALUE});
+        ValidityMask mask = validator.validate(column);
+        assertEquals(8,mask.size());
+        boolean[] expected = {false,true,false,true,false,false,true,false};
+        for(int i = 0; i < expected.length; i++){
+            assertEquals(expected[i],mask.isValid(i),"element " + i);
+        }
+    }
+
+    @Test
+    void directBufferTest(){
+        LongValidatorBuilder<Long> builder = LongValidatorBuilder.forColumn();
+        builder.positive();
+        LongColumnValidator validator = builder.buildColumn();
+
+        LongBuffer column = ByteBuffer.allocateDirect(200 * Long.BYTES).asLongBuffer();
+        for(int i = 0; i < 200; i++){
+            column.put(i,i % 3 == 0 ? -i : i);
+        }
+        column.position(10).limit(150);
+        ValidityMask mask = validator.validate(column);
+        assertEquals(140,mask.size());
+        for(int i = 0; i < 140; i++){
+            long x = column.get(10 + i);
+            assertEquals(x > 0,mask.isValid(i),"element " + i);
+        }
+    }
+
+    @Test
+    void doubleColumnTest(){
+        DoubleValidatorBuilder<Double> builder = DoubleValidatorBuilder.forColumn();
+        builder.inRangeInclusive(0.0,1.0);
+        DoubleColumnValidator validator = builder.buildColumn();
+        ValidityMask mask = validator.validate(DoubleBuffer.wrap(new double[]{0.0,0.5,1.0,Double.NaN,-0.1,1.1}));
+        assertEquals(3,mask.validCount());
+        assertEquals(3,mask.nextInvalid(0));
+
+        DoubleValidatorBuilder<Double> unbounded = DoubleValidatorBuilder.forColumn();
+        unbounded.validatingDouble(x -> !Double.isInfinite(x));
+        mask = unbounded.buildColumn().validate(DoubleBuffer.wrap(new double[]{Double.NaN,Double.POSITIVE_INFINITY,2}));
+        assertTrue(mask.isValid(0));
+        assertFalse(mask.isValid(1));
+        assertTrue(mask.isValid(2));
+    }
+
+    @Test
+    void neverValidTest(){
+        IntValidatorBuilder<Integer> builder = IntValidatorBuilder.forColumn();
+        builder.greaterThan(10);
+        builder.lesserThan(5);
+        assertEquals(0,builder.buildColumn().validate(IntBuffer.wrap(new int[]{4,7,11})).validCount());
+    }
+
+    @Test
+    void reusedBitmapTest(){
+        IntValidatorBuilder<Integer> builder = IntValidatorBuilder.forColumn();
+        builder.equal(7);
+        IntColumnValidator validator = builder.buildColumn();
+        long[] words = {-1,-1};
+        validator.validate(IntBuffer.wrap(new int[]{7,1,7}),words);
+        assertEquals(0b101,words[0]);
+        assertEquals(-1,words[1]);
+        assertThrows(IllegalArgumentException.class,() -> validator.validate(IntBuffer.allocate(65),new long[1]));
+    }
+
+    @Test
+    void parallelTest(){
+        IntValidatorBuilder<Integer> builder = IntValidatorBuilder.forColumn();
+        builder.greaterOrEqualThan(0);
+        builder.validatingInt(x -> x % 7 != 0);
+        IntColumnValidator validator = builder.buildColumn();
+
+        IntBuffer column = IntBuffer.allocate(1_000_003);
+        for(int i = 0; i < column.capacity(); i++){
+            column.put(i,i % 5 == 0 ? -i : i);
+        }
+        ValidityMask sequential = validator.validate(column);
+        ValidityMask parallel = validator.validate(column,ForkJoinPool.commonPool());
+        assertEquals(sequential.size(),parallel.size());
+        assertEquals(sequential.validCount(),parallel.validCount());
+        for(int i = 0; i < sequential.size(); i++){
+            assertEquals(sequential.isValid(i),parallel.isValid(i));
+        }
+    }
+
+    @Test
+    void onlySingleKeyTest(){
+        var twoKeys = new IntValidatorBuilderImpl<Integer>(x -> x).positive().intKey(x -> -x);
+        assertThrows(IllegalStateException.class,twoKeys::buildColumn);
+
+        IntValidatorBuilder<Integer> async = IntValidatorBuilder.forColumn();
+        async.validatingAsync(x -> true);
+        assertThrows(IllegalStateException.class,async::buildColumn);
+    }
+
+    @Test
+    void arrayTest(){
+        IntValidatorBuilder<Integer> builder = IntValidatorBuilder.forColumn();
+        builder.inRange(0,1000);
+        IntColumnValidator validator = builder.buildColumn();
+        int[] values = new int[200];
+        for(int i = 0; i < values.length; i++){
+            values[i] = i * 3;
+        }
+        assertEquals(200,validator.validateArray(values).validCount());
+        assertEquals(-1,validator.firstInvalid(values));
+        values[150] = 1000;
+        values[190] = -1;
+        ValidityMask mask = validator.validateArray(values);
+        assertEquals(198,mask.validCount());
+        assertEquals(150,mask.nextInvalid(0));
+        assertEquals(150,validator.firstInvalid(values));
+        assertEquals(-1,validator.firstInvalid(new int[0]));
+
+        LongValidatorBuilder<Long> longs = LongValidatorBuilder.forColumn();
+        longs.isZero();
+        assertEquals(2,longs.buildColumn().firstInvalid(new long[]{0,0,1,0}));
+
+        DoubleValidatorBuilder<Double> doubles = DoubleValidatorBuilder.forColumn();
+        doubles.greaterThan(0.0);
+        doubles.validatingDouble(x -> x != 2.0);
+        double[] prices = new double[70];
+        Arrays.fill(prices,1.5);
+        prices[65] = Double.NaN;
+        prices[68] = 2.0;
+        mask = doubles.buildColumn().validateArray(prices);
+        assertEquals(68,mask.validCount());
+        assertFalse(mask.isValid(65));
+        assertFalse(mask.isValid(68));
+        assertEquals(65,doubles.buildColumn().firstInvalid(prices));
+    }
+}
@@ -0,0 +1,125 @@
+package validatorTest;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import util.validator.Validator;
+import util.validator.builder.numbervalidatorbuilder.implementations.IntValidatorBuilderImpl;
+import util.validator.file.FileRow;
+import util.validator.file.FileValidationReport;
+import util.validator.file.FileValidator;
+import util.validator.implementations.AbstractValidator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+public class FileValidatorTest {
+
+    @TempDir
+    Path directory;
+
+    private final Validator<FileRow> csvValidator = new IntValidatorBuilderImpl<>(FileRow.intColumn(1))
+            .inRange(0,150)
+            .longKey(FileRow.longColumn(2))
+            .positive()
+            .doubleKey(FileRow.doubleColumn(3))
+            .inRangeInclusive(0.0,100.0)
+            .build();
+
+    @Test
+    void csvTest() throws IOException {
+        Path file = directory.resolve("animals.csv");
+        Files.writeString(file,"""
+                name,age,id,weight
+                Joe,5,1,12.5
+                Bob,-1,2,3
+                Ann,7,0,3
+
+                Tom,7,3,100.5\r
+                Kim,7,4,1e2
+                Max,x,5,1
+                Sam,3
+                """);
+
+        FileValidationReport report = FileValidator.csv(',',true).validate(file,csvValidator);
+
+        Assertions.assertEquals(7,report.rows());
+        Assertions.assertArrayEquals(new long[]{3,4,6,8,9},report.invalidLines());
+    }
+
+    @Test
+    void parallelChunks() throws IOException {
+        Path file = directory.resolve("numbers.csv");
+        StringBuilder content = new StringBuilder("name,age,id,weight\n");
+        for(int i = 0; i < 10_000; i++){
+            content.append("row,").append(i % 200).append(',').append(i + 1).append(i % 3 == 0 ? ",1.25\n" : ",-1.25\n");
+        }
+        Files.writeString(file,content);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try{
+            FileValidationReport report = FileValidator.csv(',',true).on(pool).withMaxChunkSize(4096).validate(file,csvValidator);
+
+            Assertions.assertEquals(10_000,report.rows());
+            long[] invalid = report.invalidLines();
+            long expected = 0;
+            for(int i = 0; i < 10_000; i++){
+                if(i % 200 >= 150 || i % 3 != 0)
+                    expected++;
+            }
+            Assertions.assertEquals(expected,invalid.length);
+            for(int i = 1; i < invalid.length; i++){
+                Assertions.assertTrue(invalid[i - 1] < invalid[i]);
+            }
+            Assertions.assertEquals(3,invalid[0]);
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void mappingFailure() throws IOException {
+        Path file = directory.resolve("numbers.csv");
+        Files.writeString(file,"row,1,1,1\n".repeat(1000));
+        // an interrupted worker closes the channel while mapping its next chunk
+        Validator<FileRow> interrupting = new AbstractValidator<>() {
+            @Override
+            public boolean validate(FileRow toValidate) {
+                if(Thread.currentThread() instanceof ForkJoinWorkerThread)
+                    Thread.currentThread().interrupt();
+                return true;
+            }
+        };
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try{
+            UncheckedIOException exception = Assertions.assertThrows(UncheckedIOException.class,
+                    () -> FileValidator.csv(',',false).on(pool).withMaxChunkSize(1024).validate(file,interrupting));
+            Assertions.assertInstanceOf(IOException.class,exception.getCause());
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void ndjsonTest() throws IOException {
+        Path file = directory.resolve("animals.ndjson");
+        Files.writeString(file,"""
+                {"name": "Joe", "age": 5, "owner": {"age": 500}}
+                {"owner": {"age": 5}, "age": 500}
+                {"name": "age", "weight": 1.5}
+                {"age":7,"weight":2}
+                """);
+        Validator<FileRow> validator = new IntValidatorBuilderImpl<>(FileRow.intField("age"))
+                .inRange(0,150)
+                .build();
+
+        FileValidationReport report = FileValidator.ndjson().validate(file,validator);
+
+        Assertions.assertEquals(4,report.rows());
+        Assertions.assertArrayEquals(new long[]{2,3},report.invalidLines());
+    }
+}
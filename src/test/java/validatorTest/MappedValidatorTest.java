@@ -0,0 +1,285 @@
+package validatorTest;
+
+import org.junit.jupiter.api.*;
+import util.validator.instrumentation.ConditionStatistics;
+import util.validator.mappedValidator.IncrementalMappedValidator;
+import util.validator.mappedValidator.IncrementalValidation;
+import util.validator.mappedValidator.InstrumentedMappedValidator;
+import util.validator.mappedValidator.MappedPredicateGroup;
+import util.validator.mappedValidator.MappedValidationResult;
+import util.validator.mappedValidator.MappedValidator;
+import util.validator.mappedValidator.mappedValidatorBuilder.MappedValidatorBuilder;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+public class MappedValidatorTest {
+
+    private final AtomicInteger nameExtractions = new AtomicInteger();
+
+    private final MappedValidator<Animal,String> animalValidator = MappedValidatorBuilder.<Animal,String,String>getInstance(animal -> {
+                nameExtractions.incrementAndGet();
+                return animal.name();
+            })
+            .validating("nameNotNull",name -> name != null)
+            .validating("nameShort",name -> name == null || name.length() < 10)
+            .key(Animal::age)
+            .validating("agePositive",age -> age > 0)
+            .build();
+
+
+    @Test
+    void validObjectTest() {
+        Assertions.assertTrue(animalValidator.validate(new Animal("Joe",5)));
+        Assertions.assertEquals(List.of("nameNotNull","nameShort","agePositive"),List.copyOf(animalValidator.lastValidKeys()));
+        Assertions.assertTrue(animalValidator.lastInvalidKeys().isEmpty());
+    }
+
+    @Test
+    void invalidObjectTest() {
+        Assertions.assertFalse(animalValidator.validate(new Animal(null,-5)));
+        Assertions.assertEquals(List.of("nameNotNull","agePositive"),List.copyOf(animalValidator.lastInvalidKeys()));
+        Assertions.assertEquals(List.of("nameShort"),List.copyOf(animalValidator.lastValidKeys()));
+    }
+
+    @Test
+    void allKeys() {
+        Assertions.assertEquals(List.of("nameNotNull","nameShort","agePositive"),List.copyOf(animalValidator.allKeys()));
+    }
+
+    @Test
+    void groupMapKeys() {
+        Map<String,Predicate<String>> predicates = new LinkedHashMap<>();
+        predicates.put("nameNotNull",name -> name != null);
+        predicates.put("nameShort",name -> name.length() < 10);
+        MappedPredicateGroup<Animal,String,String> group = new MappedPredicateGroup<>(Animal::name,predicates);
+
+        List<String> keys = group.getMapKeys();
+        Assertions.assertEquals(List.of("nameNotNull","nameShort"),keys);
+        Assertions.assertThrows(UnsupportedOperationException.class,() -> keys.add("nameLong"));
+    }
+
+    @Test
+    void keyExtractedOnce() {
+        animalValidator.validate(new Animal("Joe",5));
+        Assertions.assertEquals(1,nameExtractions.get());
+    }
+
+    @Nested
+    class ValidateMapped{
+
+        @Test
+        void result(){
+            MappedValidationResult<String> result = animalValidator.validateMapped(new Animal(null,-5));
+
+            Assertions.assertFalse(result.isValid());
+            Assertions.assertFalse(result.isValid("nameNotNull"));
+            Assertions.assertTrue(result.isValid("nameShort"));
+            Assertions.assertEquals(List.of("nameNotNull","agePositive"),List.copyOf(result.invalidKeys()));
+            Assertions.assertEquals(List.of("nameShort"),List.copyOf(result.validKeys()));
+            Assertions.assertTrue(result.invalidKeys().contains("agePositive"));
+            Assertions.assertFalse(result.invalidKeys().contains("nameShort"));
+            Assertions.assertThrows(IllegalArgumentException.class,() -> result.isValid("unknown"));
+        }
+
+        @Test
+        void resultsAreIndependent(){
+            MappedValidationResult<String> valid = animalValidator.validateMapped(new Animal("Joe",5));
+            MappedValidationResult<String> invalid = animalValidator.validateMapped(new Animal(null,5));
+
+            Assertions.assertTrue(valid.isValid());
+            Assertions.assertTrue(valid.invalidKeys().isEmpty());
+            Assertions.assertEquals(List.of("nameNotNull"),List.copyOf(invalid.invalidKeys()));
+        }
+
+        @Test
+        void concurrentValidation() throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try{
+                List<Future<Boolean>> futures = new ArrayList<>();
+                for(int i = 0; i < 1000; i++){
+                    Animal animal = i % 2 == 0 ? new Animal("Joe",i + 1) : new Animal(null,-i);
+                    List<String> expected = i % 2 == 0 ? List.of() : List.of("nameNotNull","agePositive");
+                    futures.add(executor.submit(() -> List.copyOf(animalValidator.validateMapped(animal).invalidKeys()).equals(expected)));
+                }
+                for(var future : futures){
+                    Assertions.assertTrue(future.get());
+                }
+            }
+            finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    @Nested
+    class Bitmask{
+
+        @Test
+        void enumKeys(){
+            MappedValidator<Animal,Check> validator = MappedValidatorBuilder.<Animal,Check,String>getInstance(Animal::name)
+                    .validating(Check.NAME,name -> name != null)
+                    .key(Animal::age)
+                    .validating(Check.AGE,age -> age > 0)
+                    .build();
+            MappedValidationResult<Check> result = validator.validateMapped(new Animal(null,5));
+
+            Assertions.assertEquals(EnumSet.of(Check.NAME),result.invalidKeys());
+            Assertions.assertEquals(EnumSet.of(Check.AGE),result.validKeys());
+            Assertions.assertTrue(result.isValid(Check.AGE));
+            Assertions.assertThrows(IllegalArgumentException.class,() -> result.isValid(Check.UNUSED));
+        }
+
+        @Test
+        void enumKeysInOrdinalOrder(){
+            MappedValidator<Animal,Check> validator = MappedValidatorBuilder.<Animal,Check,Integer>getInstance(Animal::age)
+                    .validating(Check.AGE,age -> age > 0)
+                    .key(Animal::name)
+                    .validating(Check.NAME,name -> name != null)
+                    .build();
+
+            Assertions.assertEquals(List.of(Check.AGE,Check.NAME),List.copyOf(validator.allKeys()));
+            Assertions.assertEquals(List.of(Check.NAME,Check.AGE),List.copyOf(validator.validateMapped(new Animal(null,0)).invalidKeys()));
+        }
+
+        @Test
+        void moreThan64Keys(){
+            var builder = MappedValidatorBuilder.<Integer,Integer,Integer>getInstance(i -> i);
+            for(int i = 0; i < 130; i++){
+                int bound = i;
+                builder.validating(i,value -> value > bound);
+            }
+            MappedValidator<Integer,Integer> validator = builder.build();
+
+            MappedValidationResult<Integer> result = validator.validateMapped(100);
+            Assertions.assertFalse(result.isValid());
+            Assertions.assertEquals(100,result.validKeys().size());
+            Assertions.assertEquals(30,result.invalidKeys().size());
+            Assertions.assertEquals(100,result.invalidKeys().iterator().next());
+            Assertions.assertTrue(result.isValid(99));
+            Assertions.assertFalse(result.isValid(129));
+            Assertions.assertTrue(validator.validate(1000));
+        }
+    }
+
+    @Nested
+    class Instrumented{
+
+        @Test
+        void countsPerKey(){
+            InstrumentedMappedValidator<Animal,Check> validator = MappedValidatorBuilder.<Animal,Check,String>getInstance(Animal::name)
+                    .validating(Check.NAME,name -> name != null)
+                    .key(Animal::age)
+                    .validating(Check.AGE,age -> age > 0)
+                    .buildInstrumented();
+
+            Assertions.assertTrue(validator.validate(new Animal("Joe",5)));
+            Assertions.assertEquals(EnumSet.of(Check.NAME,Check.AGE),validator.validateMapped(new Animal(null,-5)).invalidKeys());
+
+            Map<Check,ConditionStatistics> statistics = validator.statistics();
+            Assertions.assertEquals(List.of(Check.NAME,Check.AGE),List.copyOf(statistics.keySet()));
+            Assertions.assertEquals(2,statistics.get(Check.NAME).evaluations());
+            Assertions.assertEquals(1,statistics.get(Check.AGE).failures());
+            Assertions.assertEquals(0.5,statistics.get(Check.AGE).failureRate());
+        }
+    }
+
+    @Nested
+    class Incremental{
+
+        @Test
+        void onlyChangedKeysAreTested(){
+            AtomicInteger sizeExtractions = new AtomicInteger();
+            IncrementalMappedValidator<int[],String> validator = MappedValidatorBuilder.<int[],String,Integer>getInstance(values -> {
+                        sizeExtractions.incrementAndGet();
+                        return values[0];
+                    })
+                    .validating("sizePositive",size -> size > 0)
+                    .validating("sizeSmall",size -> size < 100)
+                    .key(values -> values[1])
+                    .validating("countPositive",count -> count > 0)
+                    .buildIncremental();
+
+            int[] aggregate = {5,1};
+            IncrementalValidation<int[],String> validation = validator.track(aggregate);
+            Assertions.assertTrue(validation.lastResult().isValid());
+            Assertions.assertEquals(1,sizeExtractions.get());
+
+            aggregate[1] = -1;
+            MappedValidationResult<String> result = validation.revalidate(List.of("countPositive"));
+            Assertions.assertEquals(Set.of("countPositive"),result.invalidKeys());
+            Assertions.assertEquals(1,sizeExtractions.get());
+
+            aggregate[0] = 500;
+            validation.markChanged("sizeSmall");
+            Assertions.assertTrue(validation.isDirty());
+            Assertions.assertSame(result,validation.lastResult());
+            result = validation.revalidate();
+            Assertions.assertEquals(Set.of("sizeSmall","countPositive"),result.invalidKeys());
+            Assertions.assertEquals(2,sizeExtractions.get());
+            Assertions.assertSame(result,validation.revalidate());
+
+            aggregate[0] = 5;
+            aggregate[1] = 1;
+            validation.markAllChanged();
+            Assertions.assertTrue(validation.revalidate().isValid());
+            Assertions.assertThrows(IllegalArgumentException.class,() -> validation.markChanged("unknown"));
+        }
+
+        @Test
+        void overlappingGroups(){
+            IncrementalMappedValidator<int[],String> validator = MappedValidatorBuilder.<int[],String,Integer>getInstance(values -> values[0])
+                    .validating("first",first -> first > 0)
+                    .validating("shared",first -> first > 0)
+                    .key(values -> values[1])
+                    .validating("shared",second -> second > 0)
+                    .buildIncremental();
+
+            int[] values = {1,-1};
+            IncrementalValidation<int[],String> validation = validator.track(values);
+            Assertions.assertEquals(validator.validateMapped(values).invalidKeys(),validation.lastResult().invalidKeys());
+            values[0] = 2;
+            var result = validation.revalidate(List.of("first"));
+            Assertions.assertEquals(Set.of("shared"),result.invalidKeys());
+            Assertions.assertEquals(validator.validateMapped(values).invalidKeys(),result.invalidKeys());
+            values[1] = 1;
+            values[0] = -1;
+            result = validation.revalidate(List.of("first"));
+            Assertions.assertEquals(validator.validateMapped(values).invalidKeys(),result.invalidKeys());
+        }
+
+        @Test
+        void moreThan64Keys(){
+            var builder = MappedValidatorBuilder.<int[],Integer,Integer>getInstance(values -> values[0]);
+            for(int i = 0; i < 100; i++){
+                int bound = i;
+                builder.validating(i,value -> value > bound);
+            }
+            IncrementalMappedValidator<int[],Integer> validator = builder.key(values -> values[1]).validating(100,value -> value == 0).buildIncremental();
+
+            int[] values = {1000,0};
+            IncrementalValidation<int[],Integer> validation = validator.track(values);
+            Assertions.assertTrue(validation.lastResult().isValid());
+            values[0] = 50;
+            values[1] = 1;
+            var result = validation.revalidate(List.of(100));
+            Assertions.assertEquals(Set.of(100),result.invalidKeys());
+            result = validation.revalidate(List.of(0));
+            Assertions.assertEquals(51,result.invalidKeys().size());
+            Assertions.assertEquals(validator.validateMapped(values).invalidKeys(),result.invalidKeys());
+        }
+    }
+
+    private enum Check{
+        NAME, AGE, UNUSED
+    }
+}
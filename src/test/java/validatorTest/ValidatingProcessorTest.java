@@ -0,0 +1,161 @@
+package validatorTest;
+
+import org.junit.jupiter.api.*;
+import util.validator.Validator;
+import util.validator.builder.ValidatorBuilder;
+import util.validator.flow.ValidatingProcessor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class ValidatingProcessorTest {
+
+    private final Validator<Integer> evenValidator = ValidatorBuilder.<Integer,Integer>getInstance(i -> i)
+            .validating(i -> i % 2 == 0)
+            .build();
+
+    @Test
+    void passesValidItemsInOrder() throws Exception {
+        List<Integer> invalid = Collections.synchronizedList(new ArrayList<>());
+        var processor = new ValidatingProcessor<>(evenValidator,4,invalid::add,null,1);
+        var subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+        new RangePublisher(100).subscribe(processor);
+        processor.subscribe(subscriber);
+
+        Assertions.assertEquals(even(100),subscriber.result().get(5,TimeUnit.SECONDS));
+        Assertions.assertEquals(50,invalid.size());
+    }
+
+    @Test
+    void keepsOrderOnWorkerPool() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try{
+            Validator<Integer> slowValidator = ValidatorBuilder.<Integer,Integer>getInstance(i -> i)
+                    .validating(i -> {
+                        if(i % 7 == 0)
+                            sleep();
+                        return i % 2 == 0;
+                    })
+                    .build();
+            var processor = new ValidatingProcessor<>(slowValidator,8,i -> {},executor,4);
+            var subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+            new RangePublisher(1000).subscribe(processor);
+            processor.subscribe(subscriber);
+
+            Assertions.assertEquals(even(1000),subscriber.result().get(10,TimeUnit.SECONDS));
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void respectsDemand() {
+        var publisher = new RangePublisher(1_000_000);
+        var processor = new ValidatingProcessor<>(evenValidator,16,i -> {},null,1);
+        var subscriber = new CollectingSubscriber(10);
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        Assertions.assertEquals(even(20),subscriber.items);
+        Assertions.assertTrue(publisher.requested.get() <= 20 + 16,"requested " + publisher.requested.get());
+    }
+
+    private static List<Integer> even(int end){
+        return IntStream.range(0,end).filter(i -> i % 2 == 0).boxed().collect(Collectors.toList());
+    }
+
+    private static void sleep(){
+        try{
+            Thread.sleep(1);
+        }
+        catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * publishes the numbers from 0 to end synchronously, only as many as requested
+     */
+    private static class RangePublisher implements Flow.Publisher<Integer> {
+        private final int end;
+        private final AtomicLong requested = new AtomicLong();
+
+        RangePublisher(int end){
+            this.end = end;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private int next;
+                private long demand;
+                private boolean emitting;
+
+                @Override
+                public synchronized void request(long n) {
+                    requested.addAndGet(n);
+                    demand += n;
+                    if(emitting)
+                        return;
+                    emitting = true;
+                    while(demand > 0 && next < end){
+                        demand--;
+                        subscriber.onNext(next++);
+                    }
+                    emitting = false;
+                    if(next == end){
+                        next++;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        }
+    }
+
+    private static class CollectingSubscriber implements Flow.Subscriber<Integer> {
+        private final List<Integer> items = Collections.synchronizedList(new ArrayList<>());
+        private final CompletableFuture<List<Integer>> result = new CompletableFuture<>();
+        private final long request;
+
+        CollectingSubscriber(long request){
+            this.request = request;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(request);
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            result.complete(items);
+        }
+
+        CompletableFuture<List<Integer>> result(){
+            return result;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package validatorTest;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.*;
+import util.validator.Validator;
+import util.validator.builder.ValidatorBuilder;
+import util.validator.mappedValidator.MappedValidator;
+import util.validator.mappedValidator.mappedValidatorBuilder.MappedValidatorBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+public class ValidationEventTest {
+
+    @Test
+    void slowValidationIsRecorded() throws Exception {
+        Validator<Animal> validator = ValidatorBuilder.getInstance(Animal::name)
+                .validating(name -> {
+                    sleep();
+                    return name != null;
+                })
+                .build();
+
+        List<RecordedEvent> events = record(() -> validator.validate(new Animal(null,5)));
+
+        RecordedEvent event = single(events,"util.validator.Validation");
+        Assertions.assertFalse(event.getBoolean("valid"));
+        Assertions.assertFalse(event.getBoolean("sampled"));
+        Assertions.assertTrue(event.getDuration().toNanos() >= 100_000);
+    }
+
+    @Test
+    void batchIsRecorded() throws Exception {
+        Validator<Animal> validator = ValidatorBuilder.getInstance(Animal::name)
+                .validating(name -> name != null)
+                .build();
+
+        List<RecordedEvent> events = record(() -> validator.allValid(List.of(new Animal("Joe",5),new Animal("Bob",3))));
+
+        RecordedEvent event = single(events,"util.validator.BatchValidation");
+        Assertions.assertTrue(event.getBoolean("valid"));
+        Assertions.assertEquals(2,event.getInt("size"));
+        Assertions.assertFalse(event.getBoolean("parallel"));
+    }
+
+    @Test
+    void mappedKeyFailuresAreRecorded() throws Exception {
+        MappedValidator<Animal,String> validator = MappedValidatorBuilder.<Animal,String,String>getInstance(Animal::name)
+                .validating("nameNotNull",name -> name != null)
+                .key(Animal::age)
+                .validating("agePositive",age -> age > 0)
+                .build();
+
+        List<RecordedEvent> events = record(() -> validator.validate(new Animal(null,5)));
+
+        Assertions.assertEquals("nameNotNull",single(events,"util.validator.MappedKeyFailure").getString("key"));
+    }
+
+    private static List<RecordedEvent> record(Runnable action) throws Exception {
+        Path file = Files.createTempFile("validator",".jfr");
+        try(var recording = new Recording()){
+            recording.enable("util.validator.Validation");
+            recording.enable("util.validator.BatchValidation").withThreshold(Duration.ZERO);
+            recording.enable("util.validator.MappedKeyFailure");
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        }
+        finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name){
+        var matching = events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+        Assertions.assertEquals(1,matching.size());
+        return matching.get(0);
+    }
+
+    private static void sleep(){
+        try{
+            Thread.sleep(1);
+        }
+        catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+    }
+}
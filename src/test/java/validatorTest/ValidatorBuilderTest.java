@@ -0,0 +1,647 @@
+package validatorTest;
+
+import org.junit.jupiter.api.*;
+import util.validator.AsyncValidator;
+import util.validator.ValidationResult;
+import util.validator.Validator;
+import util.validator.ValidityMask;
+import util.validator.builder.ValidatorBuilder;
+import util.validator.implementations.AbstractValidator;
+import util.validator.implementations.AdaptiveValidator;
+import util.validator.implementations.InstrumentedValidator;
+import util.validator.instrumentation.ConditionStatistics;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+public class ValidatorBuilderTest {
+
+    private final Validator<Animal> animalValidator = ValidatorBuilder.getInstance(Animal::name)
+            .validating(name -> name != null)
+            .validating(name -> !name.isBlank())
+            .intKey(Animal::age)
+            .validating(age -> age >= 0)
+            .key(Animal::name)
+            .validating(name -> name.length() < 10)
+            .build();
+
+
+    @Test
+    void validObjectTest() {
+        Animal validAnimal = new Animal("Joe",5);
+        Assertions.assertTrue(animalValidator.validate(validAnimal));
+    }
+
+    @Test
+    void invalidObjectTest() {
+        Animal invalidAnimal1 = new Animal(null,34);
+        Animal invalidAnimal2 = new Animal("asd",-5);
+        Animal invalidAnimal3 = new Animal("a very long name",5);
+
+        Assertions.assertFalse(animalValidator.validate(invalidAnimal1));
+        Assertions.assertFalse(animalValidator.validate(invalidAnimal2));
+        Assertions.assertFalse(animalValidator.validate(invalidAnimal3));
+    }
+
+    @Nested
+    class Immutability{
+
+        @Test
+        void conditionsAddedAfterBuild(){
+            ValidatorBuilder<Animal,String> builder = ValidatorBuilder.getInstance(Animal::name);
+            Validator<Animal> validator = builder.validating(name -> name != null).build();
+            builder.validating(name -> name.isEmpty());
+
+            Assertions.assertTrue(validator.validate(new Animal("Joe",5)));
+            Assertions.assertFalse(builder.build().validate(new Animal("Joe",5)));
+        }
+
+        @Test
+        void earlierKeysAreKept(){
+            Validator<Animal> validator = ValidatorBuilder.getInstance(Animal::name)
+                    .validating(name -> name != null)
+                    .key(Animal::age)
+                    .validating(age -> age > 0)
+                    .key(Animal::name)
+                    .build();
+
+            Assertions.assertTrue(validator.validate(new Animal("Joe",5)));
+            Assertions.assertFalse(validator.validate(new Animal(null,5)));
+            Assertions.assertFalse(validator.validate(new Animal("Joe",0)));
+        }
+
+        @Test
+        void conditionsAddedToEarlierKeyAfterChaining(){
+            ValidatorBuilder<Animal,String> names = ValidatorBuilder.getInstance(Animal::name);
+            ValidatorBuilder<Animal,Integer> ages = names.validating(name -> name != null).key(Animal::age);
+            names.validating(name -> !name.isEmpty());
+            Validator<Animal> validator = ages.validating(age -> age > 0).build();
+
+            Assertions.assertTrue(validator.validate(new Animal("Joe",5)));
+            Assertions.assertFalse(validator.validate(new Animal("",5)));
+            Assertions.assertFalse(validator.validate(new Animal("Joe",0)));
+        }
+    }
+
+    @Test
+    void keyExtractedOncePerKey(){
+        AtomicInteger extractions = new AtomicInteger();
+        Validator<Animal> validator = ValidatorBuilder.<Animal,String>getInstance(animal -> {
+                    extractions.incrementAndGet();
+                    return animal.name();
+                })
+                .validating(name -> name != null)
+                .validating(name -> !name.isBlank())
+                .validating(name -> name.length() < 10)
+                .build();
+
+        Assertions.assertTrue(validator.validate(new Animal("Joe",5)));
+        Assertions.assertEquals(1,extractions.get());
+    }
+
+    @Nested
+    class ValidateAll{
+
+        @Test
+        void maskCopiesWords(){
+            long[] words = {0b101L};
+            ValidityMask mask = new ValidityMask(words,3);
+            words[0] = 0;
+
+            Assertions.assertTrue(mask.isValid(0));
+            Assertions.assertEquals(2,mask.validCount());
+        }
+
+        @Test
+        void mask(){
+            List<Animal> animals = new ArrayList<>();
+            for(int i = 0; i < 130; i++){
+                animals.add(new Animal(i % 7 == 0 ? null : "Joe",i));
+            }
+            ValidityMask mask = animalValidator.validateAll(animals);
+            ValidityMask arrayMask = animalValidator.validateAll(animals.toArray(Animal[]::new));
+            ValidityMask linkedMask = animalValidator.validateAll(new LinkedList<>(animals));
+
+            Assertions.assertEquals(130,mask.size());
+            Assertions.assertEquals(130 - 19,mask.validCount());
+            for(int i = 0; i < 130; i++){
+                Assertions.assertEquals(animalValidator.validate(animals.get(i)),mask.isValid(i));
+            }
+            Assertions.assertEquals(mask.toBitSet(),arrayMask.toBitSet());
+            Assertions.assertEquals(mask.toBitSet(),linkedMask.toBitSet());
+            Assertions.assertEquals(7,mask.nextInvalid(1));
+            Assertions.assertEquals(-1,mask.nextInvalid(127));
+        }
+
+        @Test
+        void empty(){
+            ValidityMask mask = animalValidator.validateAll(List.of());
+            Assertions.assertEquals(0,mask.size());
+            Assertions.assertTrue(mask.allValid());
+            Assertions.assertEquals(-1,mask.nextInvalid(0));
+        }
+    }
+
+    @Nested
+    class Adaptive{
+
+        @Test
+        void sameResults(){
+            Validator<Animal> validator = ValidatorBuilder.getInstance(Animal::name)
+                    .validating(name -> name != null)
+                    .intKey(Animal::age)
+                    .positive()
+                    .buildAdaptive();
+
+            for(int i = 0; i < 10_000; i++){
+                Assertions.assertTrue(validator.validate(new Animal("Joe",5)));
+                Assertions.assertFalse(validator.validate(new Animal("Joe",-5)));
+                Assertions.assertFalse(validator.validate(new Animal(null,5)));
+            }
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void failingConditionMovesFirst(){
+            Predicate<Animal>[] predicates = new Predicate[]{
+                    (Predicate<Animal>) animal -> true,
+                    (Predicate<Animal>) animal -> animal.age() > 1000
+            };
+            AdaptiveValidator<Animal> validator = new AdaptiveValidator<>(predicates,1,100);
+
+            for(int i = 0; i < 100; i++){
+                Assertions.assertFalse(validator.validate(new Animal("Joe",5)));
+            }
+            Assertions.assertArrayEquals(new int[]{1,0},validator.evaluationOrder());
+        }
+    }
+
+    @Nested
+    class Instrumented{
+
+        @Test
+        void countsEvaluationsAndFailures(){
+            InstrumentedValidator<Animal> validator = ValidatorBuilder.getInstance(Animal::name)
+                    .validating(name -> name != null)
+                    .intKey(Animal::age)
+                    .positive()
+                    .buildInstrumented();
+
+            Assertions.assertTrue(validator.validate(new Animal("Joe",5)));
+            Assertions.assertFalse(validator.validate(new Animal("Joe",-5)));
+            Assertions.assertFalse(validator.validate(new Animal(null,5)));
+
+            List<ConditionStatistics> statistics = validator.statistics();
+            Assertions.assertEquals(3,statistics.get(0).evaluations());
+            Assertions.assertEquals(1,statistics.get(0).failures());
+            Assertions.assertEquals(2,statistics.get(1).evaluations());
+            Assertions.assertEquals(1,statistics.get(1).failures());
+            Assertions.assertEquals(2,statistics.get(1).latencies().totalCount());
+            Assertions.assertTrue(statistics.get(1).latencies().valueAtPercentile(50) <= statistics.get(1).latencies().maxValue());
+
+            validator.resetStatistics();
+            Assertions.assertEquals(0,validator.statistics().get(0).evaluations());
+        }
+    }
+
+    @Nested
+    class Async{
+
+        @Test
+        void concurrentConditions() throws Exception {
+            // each condition waits until the other one started, which only succeeds if they run concurrently
+            CountDownLatch bothStarted = new CountDownLatch(2);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try{
+                AsyncValidator<Animal> validator = ValidatorBuilder.getInstance(Animal::name)
+                        .validating(name -> name != null)
+                        .validatingAsync(name -> arrive(bothStarted) && !name.equals("Bob"))
+                        .intKey(Animal::age)
+                        .positive()
+                        .validatingAsync(age -> arrive(bothStarted) && age < 100)
+                        .buildAsync(executor);
+
+                Assertions.assertTrue(validator.validateAsync(new Animal("Joe",5)).get(10,TimeUnit.SECONDS));
+                Assertions.assertFalse(validator.validateAsync(new Animal("Bob",5)).get(10,TimeUnit.SECONDS));
+                Assertions.assertFalse(validator.validateAsync(new Animal("Joe",500)).get(10,TimeUnit.SECONDS));
+                Assertions.assertTrue(validator.validate(new Animal("Joe",5)));
+            }
+            finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        void firstFailureShortCircuits() throws Exception {
+            CountDownLatch secondStarted = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try{
+                AsyncValidator<Animal> validator = ValidatorBuilder.getInstance(Animal::name)
+                        .validatingAsync(name -> awaitLatch(secondStarted) && name != null)
+                        .validatingAsync(name -> arrive(secondStarted) && awaitLatch(release))
+                        .buildAsync(executor);
+
+                // completes while the second condition is still blocked
+                Assertions.assertFalse(validator.validateAsync(new Animal(null,5)).get(10,TimeUnit.SECONDS));
+                Assertions.assertEquals(1,release.getCount());
+            }
+            finally {
+                release.countDown();
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        void conditionsAfterFailureAreSkipped() throws Exception {
+            AtomicInteger secondRuns = new AtomicInteger();
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try{
+                AsyncValidator<Animal> validator = ValidatorBuilder.getInstance(Animal::name)
+                        .validatingAsync(name -> name != null)
+                        .validatingAsync(name -> secondRuns.incrementAndGet() > 0)
+                        .buildAsync(executor);
+
+                Assertions.assertFalse(validator.validateAsync(new Animal(null,5)).get(10,TimeUnit.SECONDS));
+                // every task queued before this one has finished or was skipped
+                executor.submit(() -> {}).get(10,TimeUnit.SECONDS);
+                Assertions.assertEquals(0,secondRuns.get());
+            }
+            finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        void failingSyncConditionSkipsAsyncOnes() throws Exception {
+            AtomicInteger started = new AtomicInteger();
+            AsyncValidator<Animal> validator = ValidatorBuilder.getInstance(Animal::name)
+                    .validatingAsync(name -> started.incrementAndGet() > 0)
+                    .intKey(Animal::age)
+                    .positive()
+                    .buildAsync();
+
+            Assertions.assertFalse(validator.validateAsync(new Animal("Joe",-5)).get());
+            Assertions.assertEquals(0,started.get());
+        }
+
+        private boolean arrive(CountDownLatch latch){
+            latch.countDown();
+            return awaitLatch(latch);
+        }
+
+        private boolean awaitLatch(CountDownLatch latch){
+            try{
+                return latch.await(10,TimeUnit.SECONDS);
+            }
+            catch (InterruptedException e){
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    @Nested
+    class Generated{
+
+        @Test
+        void sameResultsAsCompiled(){
+            ValidatorBuilder<Animal,String> builder = ValidatorBuilder.getInstance(Animal::name)
+                    .validating(name -> name != null)
+                    .validating(name -> name.length() < 10)
+                    .intKey(Animal::age)
+                    .validatingInt(age -> age != 3)
+                    .inRange(-20,20)
+                    .longKey(Animal::age)
+                    .greaterThan(-10L)
+                    .doubleKey(Animal::age)
+                    .lesserOrEqualThan(15.0)
+                    .key(Animal::name);
+            Validator<Animal> compiled = builder.build();
+            Validator<Animal> generated = builder.buildGenerated();
+
+            Assertions.assertTrue(generated instanceof AbstractValidator);
+            for(int age = -30; age <= 30; age++){
+                for(String name : new String[]{null, "Joe", "a very long name"}){
+                    Animal animal = new Animal(name,age);
+                    Assertions.assertEquals(compiled.validate(animal),generated.validate(animal),animal.toString());
+                }
+            }
+        }
+
+        @Test
+        void doubleBounds(){
+            Validator<Double> validator = ValidatorBuilder.<Double,Double>getInstance(d -> d)
+                    .doubleKey(d -> d)
+                    .inRangeExclusive(0.0,1.0)
+                    .buildGenerated();
+
+            Assertions.assertFalse(validator.validate(0.0));
+            Assertions.assertTrue(validator.validate(0.5));
+            Assertions.assertFalse(validator.validate(1.0));
+            Assertions.assertFalse(validator.validate(Double.NaN));
+        }
+
+        @Test
+        void contradictingBounds(){
+            Validator<Animal> validator = ValidatorBuilder.getInstance(Animal::name)
+                    .intKey(Animal::age)
+                    .greaterThan(5)
+                    .lesserThan(5)
+                    .buildGenerated();
+
+            Assertions.assertFalse(validator.validate(new Animal("Joe",5)));
+        }
+    }
+
+    @Nested
+    class NumberValidators{
+
+        @Test
+        void ranges(){
+            Validator<Animal> inRange = ValidatorBuilder.getInstance(Animal::name)
+                    .intKey(Animal::age)
+                    .inRange(1,10)
+                    .build();
+            Validator<Animal> inRangeExclusive = ValidatorBuilder.getInstance(Animal::name)
+                    .intKey(Animal::age)
+                    .inRangeExclusive(1,10)
+                    .build();
+            Validator<Animal> inRangeInclusive = ValidatorBuilder.getInstance(Animal::name)
+                    .intKey(Animal::age)
+                    .inRangeInclusive(1,10)
+                    .build();
+
+            Assertions.assertTrue(inRange.validate(new Animal("Joe",1)));
+            Assertions.assertFalse(inRange.validate(new Animal("Joe",10)));
+            Assertions.assertFalse(inRangeExclusive.validate(new Animal("Joe",1)));
+            Assertions.assertTrue(inRangeExclusive.validate(new Animal("Joe",9)));
+            Assertions.assertTrue(inRangeInclusive.validate(new Animal("Joe",10)));
+            Assertions.assertFalse(inRangeInclusive.validate(new Animal("Joe",11)));
+        }
+
+        @Test
+        void comparisons(){
+            Validator<Animal> validator = ValidatorBuilder.getInstance(Animal::name)
+                    .longKey(Animal::age)
+                    .greaterThan(2L)
+                    .lesserOrEqualThan(5L)
+                    .build();
+
+            Assertions.assertFalse(validator.validate(new Animal("Joe",2)));
+            Assertions.assertTrue(validator.validate(new Animal("Joe",3)));
+            Assertions.assertTrue(validator.validate(new Animal("Joe",5)));
+            Assertions.assertFalse(validator.validate(new Animal("Joe",6)));
+        }
+
+        @Test
+        void signs(){
+            Validator<Animal> positive = ValidatorBuilder.getInstance(Animal::name)
+                    .doubleKey(Animal::age)
+                    .positive()
+                    .build();
+            Validator<Animal> negative = ValidatorBuilder.getInstance(Animal::name)
+                    .doubleKey(Animal::age)
+                    .negative()
+                    .build();
+            Validator<Animal> zero = ValidatorBuilder.getInstance(Animal::name)
+                    .doubleKey(Animal::age)
+                    .isZero()
+                    .build();
+
+            Assertions.assertTrue(positive.validate(new Animal("Joe",1)));
+            Assertions.assertFalse(positive.validate(new Animal("Joe",0)));
+            Assertions.assertTrue(negative.validate(new Animal("Joe",-1)));
+            Assertions.assertFalse(negative.validate(new Animal("Joe",0)));
+            Assertions.assertTrue(zero.validate(new Animal("Joe",0)));
+            Assertions.assertFalse(zero.validate(new Animal("Joe",1)));
+        }
+
+        @Test
+        void foldedBounds(){
+            Validator<Animal> validator = ValidatorBuilder.getInstance(Animal::name)
+                    .intKey(Animal::age)
+                    .positive()
+                    .lesserThan(100)
+                    .inRangeInclusive(5,50)
+                    .build();
+
+            Assertions.assertFalse(validator.validate(new Animal("Joe",4)));
+            Assertions.assertTrue(validator.validate(new Animal("Joe",5)));
+            Assertions.assertTrue(validator.validate(new Animal("Joe",50)));
+            Assertions.assertFalse(validator.validate(new Animal("Joe",51)));
+        }
+
+        @Test
+        void contradictingBounds(){
+            AtomicInteger evaluations = new AtomicInteger();
+            Validator<Animal> validator = ValidatorBuilder.getInstance(Animal::name)
+                    .validating(name -> evaluations.incrementAndGet() > 0)
+                    .intKey(Animal::age)
+                    .greaterThan(10)
+                    .lesserOrEqualThan(10)
+                    .build();
+            Validator<Animal> overflow = ValidatorBuilder.getInstance(Animal::name)
+                    .longKey(Animal::age)
+                    .greaterThan(Long.MAX_VALUE)
+                    .build();
+
+            Assertions.assertFalse(validator.validate(new Animal("Joe",10)));
+            Assertions.assertFalse(overflow.validate(new Animal("Joe",10)));
+            Assertions.assertEquals(0,evaluations.get());
+        }
+
+        @Test
+        void doubleBounds(){
+            Validator<Double> validator = ValidatorBuilder.<Double,Double>getInstance(d -> d)
+                    .doubleKey(d -> d)
+                    .greaterThan(0.0)
+                    .lesserThan(1.0)
+                    .build();
+            Validator<Double> unbounded = ValidatorBuilder.<Double,Double>getInstance(d -> d)
+                    .doubleKey(d -> d)
+                    .validatingDouble(d -> true)
+                    .build();
+
+            Assertions.assertFalse(validator.validate(0.0));
+            Assertions.assertTrue(validator.validate(Double.MIN_VALUE));
+            Assertions.assertTrue(validator.validate(Math.nextDown(1.0)));
+            Assertions.assertFalse(validator.validate(1.0));
+            Assertions.assertFalse(validator.validate(Double.NaN));
+            Assertions.assertTrue(unbounded.validate(Double.NaN));
+        }
+
+        @Test
+        void equalNull(){
+            Validator<Animal> intEqual = ValidatorBuilder.getInstance(Animal::name)
+                    .intKey(Animal::age)
+                    .equal(null)
+                    .build();
+            Validator<Animal> longEqual = ValidatorBuilder.getInstance(Animal::name)
+                    .longKey(Animal::age)
+                    .equal(null)
+                    .build();
+            Validator<Animal> doubleEqual = ValidatorBuilder.getInstance(Animal::name)
+                    .doubleKey(Animal::age)
+                    .equal(null)
+                    .build();
+
+            Assertions.assertFalse(intEqual.validate(new Animal("Joe",0)));
+            Assertions.assertFalse(longEqual.validate(new Animal("Joe",0)));
+            Assertions.assertFalse(doubleEqual.validate(new Animal("Joe",0)));
+        }
+
+        @Test
+        void doubleEqualLikeEquals(){
+            Validator<Double> nan = ValidatorBuilder.<Double,Double>getInstance(d -> d)
+                    .doubleKey(d -> d)
+                    .equal(Double.NaN)
+                    .build();
+            Validator<Double> zero = ValidatorBuilder.<Double,Double>getInstance(d -> d)
+                    .doubleKey(d -> d)
+                    .isZero()
+                    .build();
+            Validator<Double> one = ValidatorBuilder.<Double,Double>getInstance(d -> d)
+                    .doubleKey(d -> d)
+                    .equal(1.0)
+                    .build();
+
+            Assertions.assertTrue(nan.validate(Double.NaN));
+            Assertions.assertFalse(nan.validate(0.0));
+            Assertions.assertTrue(zero.validate(0.0));
+            Assertions.assertFalse(zero.validate(-0.0));
+            Assertions.assertTrue(one.validate(1.0));
+            Assertions.assertFalse(one.validate(Math.nextUp(1.0)));
+        }
+
+        @Test
+        void noAllocationOnValidate(){
+            var threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+            Assumptions.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+
+            Validator<Animal> validator = ValidatorBuilder.getInstance(Animal::name)
+                    .intKey(Animal::age)
+                    .inRange(1000,100_000)
+                    .greaterThan(1000)
+                    .equal(5000)
+                    .build();
+            Animal animal = new Animal("Joe",5000);
+            int iterations = 100_000;
+
+            long threadId = Thread.currentThread().getId();
+            long before = threadBean.getThreadAllocatedBytes(threadId);
+            for(int i = 0; i < iterations; i++){
+                Assertions.assertTrue(validator.validate(animal));
+            }
+            long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+            Assertions.assertTrue(allocated < iterations, "allocated " + allocated + " bytes");
+        }
+    }
+
+    @Nested
+    class WithResult{
+
+        @Test
+        void validSharesInstance(){
+            ValidationResult result = animalValidator.validateWithResult(new Animal("Joe",5));
+            Assertions.assertTrue(result.isValid());
+            Assertions.assertSame(ValidationResult.valid(),result);
+        }
+
+        @Test
+        void failureDescribesCondition(){
+            ValidationResult result = animalValidator.validateWithResult(new Animal(" ",5));
+            Assertions.assertFalse(result.isValid());
+            Assertions.assertEquals(0,result.keyIndex());
+            Assertions.assertEquals(1,result.conditionIndex());
+            Assertions.assertEquals(" ",result.value());
+
+            result = animalValidator.validateWithResult(new Animal("Joe",-1));
+            Assertions.assertEquals(1,result.keyIndex());
+            Assertions.assertEquals(0,result.conditionIndex());
+            Assertions.assertEquals(-1,result.value());
+
+            result = animalValidator.validateWithResult(new Animal("Joe Joe Joe",1));
+            Assertions.assertEquals(2,result.keyIndex());
+        }
+
+        @Test
+        void numberBounds(){
+            Validator<Animal> validator = ValidatorBuilder.getInstance(Animal::name)
+                    .intKey(Animal::age)
+                    .validatingInt(age -> age % 2 == 0)
+                    .inRange(0,100)
+                    .doubleKey(animal -> animal.age() / 2.0)
+                    .greaterThan(5.0)
+                    .build();
+
+            ValidationResult result = validator.validateWithResult(new Animal("Joe",101));
+            Assertions.assertEquals(0,result.keyIndex());
+            Assertions.assertEquals(ValidationResult.BOUNDS,result.conditionIndex());
+            Assertions.assertEquals(101,result.value());
+            Assertions.assertEquals(0,validator.validateWithResult(new Animal("Joe",13)).conditionIndex());
+            result = validator.validateWithResult(new Animal("Joe",10));
+            Assertions.assertEquals(1,result.keyIndex());
+            Assertions.assertEquals(5.0,result.value());
+            Assertions.assertTrue(validator.validateWithResult(new Animal("Joe",12)).isValid());
+        }
+
+        @Test
+        void shortCircuits(){
+            AtomicInteger evaluations = new AtomicInteger();
+            Validator<Animal> validator = ValidatorBuilder.getInstance(Animal::name)
+                    .validating(name -> false)
+                    .key(Animal::age)
+                    .validating(age -> evaluations.incrementAndGet() > 0)
+                    .build();
+            Assertions.assertFalse(validator.validateWithResult(new Animal("Joe",5)).isValid());
+            Assertions.assertEquals(0,evaluations.get());
+        }
+
+        @Test
+        void unknownCondition(){
+            AbstractValidator<Animal> validator = new AbstractValidator<>() {
+                @Override
+                public boolean validate(Animal toValidate) {
+                    return false;
+                }
+            };
+            ValidationResult result = validator.validateWithResult(new Animal("Joe",5));
+            Assertions.assertFalse(result.isValid());
+            Assertions.assertEquals(ValidationResult.UNKNOWN,result.keyIndex());
+        }
+
+        @Test
+        void noAllocationOnSuccess(){
+            var threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+            Assumptions.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+
+            Validator<Animal> validator = ValidatorBuilder.getInstance(Animal::name)
+                    .validating(name -> name != null)
+                    .intKey(Animal::age)
+                    .inRange(1000,100_000)
+                    .build();
+            Animal animal = new Animal("Joe",5000);
+            int iterations = 100_000;
+
+            long threadId = Thread.currentThread().getId();
+            long before = threadBean.getThreadAllocatedBytes(threadId);
+            for(int i = 0; i < iterations; i++){
+                Assertions.assertTrue(validator.validateWithResult(animal).isValid());
+            }
+            long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+            Assertions.assertTrue(allocated < iterations, "allocated " + allocated + " bytes");
+        }
+    }
+}
@@ -1,10 +1,19 @@
 package validatorTest;
 
 import org.junit.jupiter.api.*;
+import util.validator.ValidationException;
 import util.validator.implementations.AbstractValidator;
+import util.validator.implementations.MemoizedValidator;
+import util.validator.instrumentation.CacheStatistics;
 
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ValidatorTest {
 
@@ -55,6 +64,39 @@ public class ValidatorTest {
             Collection<Animal> animals = List.of(validAnimal1,validAnimal2,validAnimal3,validAnimal4,invalid);
             Assertions.assertFalse(animalValidator.allValid(animals));
         }
+
+        @Test
+        void parallelAllValid(){
+            List<Animal> animals = new ArrayList<>();
+            for(int i = 0; i < 100_000; i++){
+                animals.add(new Animal("Joe",i));
+            }
+            Assertions.assertTrue(animalValidator.allValid(animals,ForkJoinPool.commonPool()));
+            Assertions.assertTrue(animalValidator.allValid(animals.subList(0,10),ForkJoinPool.commonPool()));
+        }
+
+        @Test
+        void parallelOneInvalid(){
+            List<Animal> animals = new ArrayList<>();
+            for(int i = 0; i < 100_000; i++){
+                animals.add(new Animal("Joe",i));
+            }
+            animals.set(73_123,new Animal(null,12));
+            Assertions.assertFalse(animalValidator.allValid(animals,ForkJoinPool.commonPool()));
+            Assertions.assertFalse(animalValidator.allValid(animals.subList(73_120,73_130),ForkJoinPool.commonPool()));
+        }
+    }
+
+    @Test
+    void validateAllTest(){
+        Animal[] animals = {new Animal("Joe",20),new Animal(null,4),new Animal("wer",-3),new Animal("ve",1)};
+        var mask = animalValidator.validateAll(animals);
+
+        Assertions.assertEquals(2,mask.validCount());
+        Assertions.assertTrue(mask.isValid(0));
+        Assertions.assertFalse(mask.isValid(1));
+        Assertions.assertFalse(mask.isValid(2));
+        Assertions.assertTrue(mask.isValid(3));
     }
 
     @Nested
@@ -102,6 +144,166 @@ public class ValidatorTest {
             Animal invalid = new Animal(null,12);
             Assertions.assertThrows(IllegalArgumentException.class,() -> animalValidator.validOrThrow(invalid,() -> new IllegalArgumentException()));
         }
+        @Test
+        void stacklessException(){
+            Animal invalid = new Animal(null,12);
+            IllegalArgumentException thrown = Assertions.assertThrows(IllegalArgumentException.class,() -> animalValidator.validOrThrow(invalid));
+            ValidationException exception = Assertions.assertInstanceOf(ValidationException.class,thrown);
+            Assertions.assertEquals(0,exception.getStackTrace().length);
+            Assertions.assertSame(invalid,exception.getInvalidValue());
+            Assertions.assertEquals(invalid + " is invalid",exception.getMessage());
+        }
+        @Test
+        void lazyMessage(){
+            AtomicInteger toStringCalls = new AtomicInteger();
+            Object invalid = new Object(){
+                @Override
+                public String toString() {
+                    toStringCalls.incrementAndGet();
+                    return "invalid";
+                }
+            };
+            AbstractValidator<Object> validator = new AbstractValidator<>() {
+                @Override
+                public boolean validate(Object toValidate) {
+                    return false;
+                }
+            };
+            ValidationException exception = Assertions.assertThrows(ValidationException.class,() -> validator.validOrThrow(invalid));
+            Assertions.assertEquals(0,toStringCalls.get());
+            Assertions.assertEquals("invalid is invalid",exception.getMessage());
+            Assertions.assertEquals(1,toStringCalls.get());
+        }
+        @Test
+        void sharedException(){
+            Animal invalid = new Animal(null,12);
+            ValidationException first = Assertions.assertThrows(ValidationException.class,() -> animalValidator.validOrThrow(invalid,ValidationException::shared));
+            ValidationException second = Assertions.assertThrows(ValidationException.class,() -> animalValidator.validOrThrow(invalid,ValidationException::shared));
+            Assertions.assertSame(first,second);
+            Assertions.assertNull(first.getInvalidValue());
+            Assertions.assertEquals(0,first.getStackTrace().length);
+
+            Assertions.assertInstanceOf(IllegalArgumentException.class,first);
+
+            first.setStackTrace(new Throwable().getStackTrace());
+            Assertions.assertEquals(0,ValidationException.shared().getStackTrace().length);
+            Assertions.assertThrows(IllegalStateException.class,() -> first.initCause(new IllegalStateException()));
+            Assertions.assertNull(ValidationException.shared().getCause());
+        }
+    }
+
+    @Nested
+    class Memoized{
+
+        @Test
+        void cachedResults(){
+            AtomicInteger validations = new AtomicInteger();
+            MemoizedValidator<Animal> validator = countingValidator(validations).memoized(10,Duration.ofMinutes(1));
+
+            for(int i = 0; i < 5; i++){
+                Assertions.assertTrue(validator.validate(new Animal("Joe",5)));
+                Assertions.assertFalse(validator.validate(new Animal(null,5)));
+            }
+            Assertions.assertEquals(2,validations.get());
+            Assertions.assertEquals(new CacheStatistics(8,2,0),validator.statistics());
+        }
+
+        @Test
+        void identityKeys(){
+            AtomicInteger validations = new AtomicInteger();
+            MemoizedValidator<Animal> validator = countingValidator(validations)
+                    .memoized(10,Duration.ofMinutes(1),MemoizedValidator.Keys.IDENTITY);
+            Animal animal = new Animal("Joe",5);
+
+            validator.validate(animal);
+            validator.validate(animal);
+            validator.validate(new Animal("Joe",5));
+            Assertions.assertEquals(2,validations.get());
+        }
+
+        @Test
+        void bounded(){
+            AtomicInteger validations = new AtomicInteger();
+            MemoizedValidator<Animal> validator = countingValidator(validations).memoized(4,Duration.ofMinutes(1));
+
+            for(int i = 0; i < 100; i++){
+                validator.validate(new Animal("Joe",i));
+            }
+            Assertions.assertEquals(4,validator.size());
+            Assertions.assertEquals(96,validator.statistics().evictions());
+        }
+
+        @Test
+        void identityBounded(){
+            AtomicInteger validations = new AtomicInteger();
+            MemoizedValidator<Animal> validator = countingValidator(validations)
+                    .memoized(4,Duration.ofMinutes(1),MemoizedValidator.Keys.IDENTITY);
+            Animal[] animals = new Animal[50];
+            for(int i = 0; i < animals.length; i++){
+                animals[i] = new Animal(i % 3 == 0 ? null : "Joe",i);
+            }
+            for(int round = 0; round < 3; round++){
+                for(Animal animal : animals){
+                    Assertions.assertEquals(animal.name() != null,validator.validate(animal));
+                }
+            }
+            Assertions.assertEquals(4,validator.size());
+            Assertions.assertEquals(146,validator.statistics().evictions());
+        }
+
+        @Test
+        void noAllocationOnIdentityHit(){
+            var threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+            Assumptions.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+            MemoizedValidator<Animal> validator = animalValidator.memoized(16,Duration.ofMinutes(1),MemoizedValidator.Keys.IDENTITY);
+            Animal animal = new Animal("Joe",5);
+            validator.validate(animal);
+            int iterations = 100_000;
+
+            long threadId = Thread.currentThread().getId();
+            long before = threadBean.getThreadAllocatedBytes(threadId);
+            for(int i = 0; i < iterations; i++){
+                Assertions.assertTrue(validator.validate(animal));
+            }
+            long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+            Assertions.assertTrue(allocated < iterations, "allocated " + allocated + " bytes");
+        }
+
+        @Test
+        void referencedEntriesStay(){
+            AtomicInteger validations = new AtomicInteger();
+            MemoizedValidator<Animal> validator = countingValidator(validations).memoized(4,Duration.ofMinutes(1));
+            Animal hot = new Animal("Hot",1);
+
+            for(int i = 0; i < 100; i++){
+                validator.validate(hot);
+                validator.validate(new Animal("Joe",i));
+            }
+            Assertions.assertEquals(101,validations.get());
+        }
+
+        @Test
+        void expiredResults() throws InterruptedException {
+            AtomicInteger validations = new AtomicInteger();
+            MemoizedValidator<Animal> validator = countingValidator(validations).memoized(10,Duration.ofMillis(1));
+
+            validator.validate(new Animal("Joe",5));
+            Thread.sleep(5);
+            validator.validate(new Animal("Joe",5));
+            Assertions.assertEquals(2,validations.get());
+            Assertions.assertEquals(1,validator.size());
+        }
+
+        private AbstractValidator<Animal> countingValidator(AtomicInteger validations){
+            return new AbstractValidator<>() {
+                @Override
+                public boolean validate(Animal toValidate) {
+                    validations.incrementAndGet();
+                    return animalValidator.validate(toValidate);
+                }
+            };
+        }
     }
 
 
@@ -0,0 +1,94 @@
+package validatorTest;
+
+import org.junit.jupiter.api.*;
+import util.validator.Validator;
+import util.validator.Validators;
+import util.validator.annotations.DecimalRange;
+import util.validator.annotations.InRange;
+import util.validator.annotations.Negative;
+import util.validator.annotations.NotNull;
+import util.validator.annotations.Positive;
+
+public class ValidatorsTest {
+
+    record Pet(@NotNull String name, @Positive @InRange(min = 0,max = 30) int age, @Negative long debt,
+               @InRange(min = 0,max = 100) double weight, @Positive Integer legs, String owner) { }
+
+    record Contradicting(@Positive @Negative int value) { }
+
+    record Unconstrained(String name) { }
+
+    record WrongType(@Positive String name) { }
+
+    record Measurement(@InRange(min = 0) long count, @InRange(min = 0) Long total,
+                       @DecimalRange(min = 0.5,max = 2.5) double ratio, @DecimalRange(max = 1.5) Float factor) { }
+
+    record WrongDecimal(@DecimalRange(min = 0.5) int value) { }
+
+    record Letter(@Positive char value) { }
+
+    @Test
+    void validRecordTest() {
+        Validator<Pet> validator = Validators.forRecord(Pet.class);
+        Assertions.assertTrue(validator.validate(new Pet("Joe",1,-1,0,4,null)));
+        Assertions.assertTrue(validator.validate(new Pet("Joe",29,Long.MIN_VALUE,99.5,1,"Bob")));
+    }
+
+    @Test
+    void invalidRecordTest() {
+        Validator<Pet> validator = Validators.forRecord(Pet.class);
+        Assertions.assertFalse(validator.validate(new Pet(null,1,-1,0,4,null)));
+        Assertions.assertFalse(validator.validate(new Pet("Joe",0,-1,0,4,null)));
+        Assertions.assertFalse(validator.validate(new Pet("Joe",30,-1,0,4,null)));
+        Assertions.assertFalse(validator.validate(new Pet("Joe",1,0,0,4,null)));
+        Assertions.assertFalse(validator.validate(new Pet("Joe",1,-1,100,4,null)));
+        Assertions.assertFalse(validator.validate(new Pet("Joe",1,-1,Double.NaN,4,null)));
+        Assertions.assertFalse(validator.validate(new Pet("Joe",1,-1,0,null,null)));
+        Assertions.assertFalse(validator.validate(new Pet("Joe",1,-1,0,0,null)));
+    }
+
+    @Test
+    void cachedPerClassTest() {
+        Assertions.assertSame(Validators.forRecord(Pet.class),Validators.forRecord(Pet.class));
+    }
+
+    @Test
+    void contradictingAnnotationsTest() {
+        Validator<Contradicting> validator = Validators.forRecord(Contradicting.class);
+        Assertions.assertFalse(validator.validate(new Contradicting(0)));
+        Assertions.assertFalse(validator.validate(new Contradicting(1)));
+        Assertions.assertFalse(validator.validate(new Contradicting(-1)));
+    }
+
+    @Test
+    void unconstrainedRecordTest() {
+        Assertions.assertTrue(Validators.forRecord(Unconstrained.class).validate(new Unconstrained(null)));
+    }
+
+    @Test
+    void wrongTypeTest() {
+        Assertions.assertThrows(IllegalArgumentException.class,() -> Validators.forRecord(WrongType.class));
+        Assertions.assertThrows(IllegalArgumentException.class,() -> Validators.forRecord(Letter.class));
+    }
+
+    @Test
+    void defaultMaxIsUnboundedTest() {
+        Validator<Measurement> validator = Validators.forRecord(Measurement.class);
+        Assertions.assertTrue(validator.validate(new Measurement(Long.MAX_VALUE,Long.MAX_VALUE,1,1f)));
+        Assertions.assertFalse(validator.validate(new Measurement(-1,0L,1,1f)));
+        Assertions.assertFalse(validator.validate(new Measurement(0,-1L,1,1f)));
+    }
+
+    @Test
+    void decimalRangeTest() {
+        Validator<Measurement> validator = Validators.forRecord(Measurement.class);
+        Assertions.assertTrue(validator.validate(new Measurement(0,0L,0.5,1.49f)));
+        Assertions.assertTrue(validator.validate(new Measurement(0,0L,2.49,Float.NEGATIVE_INFINITY)));
+        Assertions.assertFalse(validator.validate(new Measurement(0,0L,0.49,1f)));
+        Assertions.assertFalse(validator.validate(new Measurement(0,0L,2.5,1f)));
+        Assertions.assertFalse(validator.validate(new Measurement(0,0L,Double.NaN,1f)));
+        Assertions.assertFalse(validator.validate(new Measurement(0,0L,1,1.5f)));
+        Assertions.assertFalse(validator.validate(new Measurement(0,0L,1,null)));
+        Assertions.assertThrows(IllegalArgumentException.class,() -> Validators.forRecord(WrongDecimal.class));
+    }
+}
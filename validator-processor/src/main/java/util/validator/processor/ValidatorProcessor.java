@@ -0,0 +1,247 @@
+package util.validator.processor;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Generates a Validator for every record or class with constraint annotations from util.validator.annotations.
+ * <p>
+ * For a type Person it generates PersonValidator in the same package, a plain subclass of AbstractValidator
+ * without reflection, lambdas or ValidatorBuilders.
+ * Records are validated through their component accessors,
+ * classes through their annotated fields, their getters or annotated methods without parameters
+ */
+@SupportedAnnotationTypes("util.validator.annotations.*")
+public class ValidatorProcessor extends AbstractProcessor {
+    private static final String ANNOTATIONS = "util.validator.annotations.";
+
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for(TypeElement annotation : annotations){
+            for(Element element : roundEnv.getElementsAnnotatedWith(annotation)){
+                if(element.getEnclosingElement() instanceof TypeElement type)
+                    types.add(type);
+            }
+        }
+        for(TypeElement type : types){
+            if(generated.add(type.getQualifiedName().toString()))
+                generate(type);
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type){
+        if(type.getModifiers().contains(Modifier.PRIVATE)){
+            error(type,"can't generate a validator for a private type");
+            return;
+        }
+        List<Property> properties = type.getKind() == ElementKind.RECORD ? recordProperties(type) : classProperties(type);
+        if(properties == null)
+            return;
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String typeName = typeName(type);
+        String validatorName = validatorName(type);
+        StringBuilder source = new StringBuilder();
+        if(!packageName.isEmpty())
+            source.append("package ").append(packageName).append(";\n\n");
+        source.append("import util.validator.implementations.AbstractValidator;\n\n")
+                .append("/**\n * Validator for ").append(typeName).append(", generated by the ValidatorProcessor\n */\n")
+                .append("public final class ").append(validatorName).append(" extends AbstractValidator<").append(typeName).append("> {\n\n")
+                .append("    @Override\n")
+                .append("    public boolean validate(").append(typeName).append(" toValidate) {\n");
+        for(int i = 0; i < properties.size(); i++){
+            properties.get(i).generate(source,"value" + i);
+        }
+        source.append("        return true;\n")
+                .append("    }\n")
+                .append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? validatorName : packageName + "." + validatorName;
+        try(Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName,type).openWriter()){
+            writer.write(source.toString());
+        }
+        catch (IOException e){
+            error(type,"couldn't write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    private List<Property> recordProperties(TypeElement type){
+        List<Property> properties = new ArrayList<>();
+        for(RecordComponentElement component : type.getRecordComponents()){
+            List<AnnotationMirror> constraints = constraints(component);
+            if(!constraints.isEmpty())
+                properties.add(new Property(component,"toValidate." + component.getSimpleName() + "()",component.asType(),constraints));
+        }
+        return validate(properties) ? properties : null;
+    }
+
+    private List<Property> classProperties(TypeElement type){
+        List<Property> properties = new ArrayList<>();
+        List<ExecutableElement> methods = ElementFilter.methodsIn(type.getEnclosedElements());
+        for(VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())){
+            List<AnnotationMirror> constraints = constraints(field);
+            if(constraints.isEmpty())
+                continue;
+            String access = field.getModifiers().contains(Modifier.PRIVATE) ? getter(field,methods) : "toValidate." + field.getSimpleName();
+            if(access == null){
+                error(field,"private field needs a getter without parameters to be validated");
+                return null;
+            }
+            properties.add(new Property(field,access,field.asType(),constraints));
+        }
+        for(ExecutableElement method : methods){
+            List<AnnotationMirror> constraints = constraints(method);
+            if(constraints.isEmpty())
+                continue;
+            if(!method.getParameters().isEmpty() || method.getModifiers().contains(Modifier.PRIVATE)){
+                error(method,"only methods without parameters which aren't private can be validated");
+                return null;
+            }
+            properties.add(new Property(method,"toValidate." + method.getSimpleName() + "()",method.getReturnType(),constraints));
+        }
+        return validate(properties) ? properties : null;
+    }
+
+    private static String getter(VariableElement field, List<ExecutableElement> methods){
+        String name = field.getSimpleName().toString();
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for(ExecutableElement method : methods){
+            String methodName = method.getSimpleName().toString();
+            if(method.getParameters().isEmpty() && !method.getModifiers().contains(Modifier.PRIVATE)
+                    && (methodName.equals("get" + capitalized) || methodName.equals("is" + capitalized) || methodName.equals(name)))
+                return "toValidate." + methodName + "()";
+        }
+        return null;
+    }
+
+    private static List<AnnotationMirror> constraints(Element element){
+        List<AnnotationMirror> constraints = new ArrayList<>();
+        for(AnnotationMirror annotation : element.getAnnotationMirrors()){
+            String name = ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+            if(name.startsWith(ANNOTATIONS))
+                constraints.add(annotation);
+        }
+        return constraints;
+    }
+
+    private boolean validate(List<Property> properties){
+        boolean valid = true;
+        for(Property property : properties){
+            for(AnnotationMirror constraint : property.constraints()){
+                String name = constraint.getAnnotationType().asElement().getSimpleName().toString();
+                boolean misplaced = switch (name) {
+                    case "NotNull" -> property.type().getKind().isPrimitive();
+                    case "DecimalRange" -> !property.isDecimal();
+                    default -> !property.isNumber();
+                };
+                if(misplaced){
+                    error(property.element(),"@" + name + " can't be used on " + property.type());
+                    valid = false;
+                }
+            }
+        }
+        return valid;
+    }
+
+    private String typeName(TypeElement type){
+        String name = type.getQualifiedName().toString();
+        if(!type.getTypeParameters().isEmpty())
+            name += "<" + String.join(",",Collections.nCopies(type.getTypeParameters().size(),"?")) + ">";
+        return name;
+    }
+
+    private static String validatorName(TypeElement type){
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for(Element enclosing = type.getEnclosingElement(); enclosing instanceof TypeElement; enclosing = enclosing.getEnclosingElement()){
+            name.insert(0,enclosing.getSimpleName() + "_");
+        }
+        return name.append("Validator").toString();
+    }
+
+    private void error(Element element, String message){
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,message,element);
+    }
+
+    /**
+     * One annotated value of the validated type
+     */
+    private record Property(Element element, String access, TypeMirror type, List<AnnotationMirror> constraints) {
+        private static final Set<String> BOXED_NUMBERS = Set.of(
+                "java.lang.Byte","java.lang.Short","java.lang.Integer","java.lang.Long","java.lang.Float","java.lang.Double");
+
+        boolean isNumber(){
+            TypeKind kind = type.getKind();
+            return kind == TypeKind.BYTE || kind == TypeKind.SHORT || kind == TypeKind.INT || kind == TypeKind.LONG
+                    || kind == TypeKind.FLOAT || kind == TypeKind.DOUBLE
+                    || BOXED_NUMBERS.contains(type.toString());
+        }
+
+        boolean isDecimal(){
+            TypeKind kind = type.getKind();
+            return kind == TypeKind.FLOAT || kind == TypeKind.DOUBLE
+                    || type.toString().equals("java.lang.Float") || type.toString().equals("java.lang.Double");
+        }
+
+        void generate(StringBuilder source, String local){
+            source.append("        var ").append(local).append(" = ").append(access).append(";\n");
+            if(!type.getKind().isPrimitive() && isNumber())
+                returnFalseIf(source,local + " == null");
+            for(AnnotationMirror constraint : constraints){
+                switch (constraint.getAnnotationType().asElement().getSimpleName().toString()) {
+                    case "NotNull" -> returnFalseIf(source,local + " == null");
+                    case "Positive" -> returnFalseIf(source,"!(" + local + " > 0)");
+                    case "Negative" -> returnFalseIf(source,"!(" + local + " < 0)");
+                    case "InRange" -> {
+                        long max = value(constraint,"max",Long.MAX_VALUE).longValue();
+                        returnFalseIf(source,"!(" + local + " >= " + value(constraint,"min",Long.MIN_VALUE) + "L"
+                                + (max == Long.MAX_VALUE ? "" : " && " + local + " < " + max + "L") + ")");
+                    }
+                    case "DecimalRange" -> {
+                        double max = value(constraint,"max",Double.POSITIVE_INFINITY).doubleValue();
+                        returnFalseIf(source,"!(" + local + " >= " + literal(value(constraint,"min",Double.NEGATIVE_INFINITY).doubleValue())
+                                + (max == Double.POSITIVE_INFINITY ? "" : " && " + local + " < " + literal(max)) + ")");
+                    }
+                    default -> { }
+                }
+            }
+        }
+
+        private static void returnFalseIf(StringBuilder source, String condition){
+            source.append("        if(").append(condition).append(")\n")
+                    .append("            return false;\n");
+        }
+
+        private static Number value(AnnotationMirror annotation, String name, Number defaultValue){
+            for(var entry : annotation.getElementValues().entrySet()){
+                if(entry.getKey().getSimpleName().contentEquals(name))
+                    return (Number) entry.getValue().getValue();
+            }
+            return defaultValue;
+        }
+
+        private static String literal(double value){
+            if(Double.isNaN(value))
+                return "Double.NaN";
+            if(Double.isInfinite(value))
+                return value > 0 ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY";
+            return value + "D";
+        }
+    }
+}
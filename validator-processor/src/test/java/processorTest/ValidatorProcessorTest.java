@@ -0,0 +1,130 @@
+package processorTest;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import util.validator.Validator;
+import util.validator.annotations.DecimalRange;
+import util.validator.annotations.InRange;
+import util.validator.annotations.Negative;
+import util.validator.annotations.NotNull;
+import util.validator.annotations.Positive;
+import util.validator.processor.ValidatorProcessor;
+
+import javax.tools.*;
+import java.net.URI;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidatorProcessorTest {
+
+    record Animal(@NotNull String name, @Positive int legs, @InRange(min = 0,max = 100) double age, Long id) { }
+
+    record Measurement(@InRange(min = 0) long count, @DecimalRange(min = 0.5,max = 2.5) double ratio, @DecimalRange(max = 1.5) Float factor) { }
+
+    static class Account {
+        @NotNull
+        String owner;
+        @Negative
+        private final long debt;
+
+        Account(String owner, long debt){
+            this.owner = owner;
+            this.debt = debt;
+        }
+
+        public long getDebt() {
+            return debt;
+        }
+
+        @Positive
+        public Integer limit(){
+            return 10;
+        }
+    }
+
+    @Nested
+    class Records {
+        Validator<Animal> validator = new ValidatorProcessorTest_AnimalValidator();
+
+        @Test
+        void validRecord(){
+            assertTrue(validator.validate(new Animal("cat",4,0,null)));
+            assertTrue(validator.validate(new Animal("dog",4,99.9,1L)));
+        }
+
+        @Test
+        void invalidRecord(){
+            assertFalse(validator.validate(new Animal(null,4,3,null)));
+            assertFalse(validator.validate(new Animal("fish",0,3,null)));
+            assertFalse(validator.validate(new Animal("cat",4,100,null)));
+            assertFalse(validator.validate(new Animal("cat",4,-0.5,null)));
+            assertFalse(validator.validate(new Animal("cat",4,Double.NaN,null)));
+        }
+    }
+
+    @Nested
+    class Ranges {
+        Validator<Measurement> validator = new ValidatorProcessorTest_MeasurementValidator();
+
+        @Test
+        void defaultMaxIsUnbounded(){
+            assertTrue(validator.validate(new Measurement(Long.MAX_VALUE,1,1f)));
+            assertTrue(validator.validate(new Measurement(0,1,Float.NEGATIVE_INFINITY)));
+            assertFalse(validator.validate(new Measurement(-1,1,1f)));
+        }
+
+        @Test
+        void fractionalBounds(){
+            assertTrue(validator.validate(new Measurement(1,0.5,1.49f)));
+            assertTrue(validator.validate(new Measurement(1,2.49,0f)));
+            assertFalse(validator.validate(new Measurement(1,0.49,1f)));
+            assertFalse(validator.validate(new Measurement(1,2.5,1f)));
+            assertFalse(validator.validate(new Measurement(1,1,1.5f)));
+            assertFalse(validator.validate(new Measurement(1,Double.NaN,1f)));
+            assertFalse(validator.validate(new Measurement(1,1,null)));
+        }
+    }
+
+    @Nested
+    class Rejected {
+
+        @Test
+        void charComponent(){
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            assertFalse(compile("record Letter(@util.validator.annotations.Positive char value) { }",diagnostics));
+            assertTrue(diagnostics.getDiagnostics().stream()
+                    .anyMatch(d -> d.getKind() == Diagnostic.Kind.ERROR && d.getMessage(null).contains("@Positive can't be used on char")));
+        }
+
+        private boolean compile(String source, DiagnosticCollector<JavaFileObject> diagnostics){
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///Letter.java"),JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return source;
+                }
+            };
+            var task = compiler.getTask(null,null,diagnostics,
+                    List.of("-classpath",System.getProperty("java.class.path"),"-proc:only"),null,List.of(file));
+            task.setProcessors(List.of(new ValidatorProcessor()));
+            return task.call();
+        }
+    }
+
+    @Nested
+    class Classes {
+        Validator<Account> validator = new ValidatorProcessorTest_AccountValidator();
+
+        @Test
+        void validClass(){
+            assertTrue(validator.validate(new Account("bob",-5)));
+        }
+
+        @Test
+        void invalidClass(){
+            assertFalse(validator.validate(new Account(null,-5)));
+            assertFalse(validator.validate(new Account("bob",0)));
+        }
+    }
+}